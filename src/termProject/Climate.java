@@ -0,0 +1,161 @@
+package termProject;
+
+/**
+ * Climate Enum of the Perils Along the Platte Game
+ * The climate of each region the trails pass through, month by month.
+ * The day's weather is Clear, Rainy or Snowy, and tomorrow's depends on today's: wet spells and
+ * dry spells tend to last, while over a month each kind of day comes up as often as the region's
+ * climate says. The chances of moving from one kind of day to the next are worked out once for
+ * every region and month, so moving the weather on by a day is one table lookup and one draw.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : climate.java
+ */
+public enum Climate {
+    //          typical high each month, January to December (degrees Fahrenheit)
+    //          chance of a rainy day each month (percent)
+    //          chance of a snowy day each month (percent)
+    PRAIRIE(new int[] {37, 43, 55, 66, 75, 84, 89, 87, 79, 68, 53, 40},
+            new int[] {15, 18, 25, 30, 33, 30, 25, 25, 22, 22, 18, 15},
+            new int[] {12, 10, 6, 1, 0, 0, 0, 0, 0, 1, 4, 10}),
+    PLAINS(new int[] {35, 40, 50, 62, 72, 83, 89, 86, 77, 64, 48, 37},
+            new int[] {8, 10, 18, 25, 30, 28, 22, 20, 15, 12, 8, 7},
+            new int[] {12, 12, 10, 4, 1, 0, 0, 0, 0, 2, 6, 11}),
+    HIGH_PLAINS(new int[] {40, 43, 50, 59, 69, 81, 89, 87, 77, 64, 49, 40},
+            new int[] {4, 5, 10, 17, 24, 20, 16, 14, 10, 8, 5, 4},
+            new int[] {12, 12, 14, 10, 3, 0, 0, 0, 1, 5, 9, 12}),
+    MOUNTAINS(new int[] {28, 32, 40, 50, 61, 72, 81, 79, 68, 55, 39, 30},
+            new int[] {3, 4, 8, 12, 18, 17, 15, 15, 10, 8, 4, 3},
+            new int[] {18, 18, 20, 18, 10, 3, 0, 0, 4, 10, 15, 18}),
+    DESERT(new int[] {38, 45, 54, 62, 72, 83, 93, 90, 80, 66, 50, 40},
+            new int[] {6, 6, 7, 8, 8, 5, 3, 3, 4, 6, 7, 7},
+            new int[] {10, 8, 6, 3, 1, 0, 0, 0, 0, 1, 4, 8}),
+    NORTHWEST(new int[] {47, 52, 56, 61, 67, 73, 81, 82, 76, 64, 53, 46},
+            new int[] {50, 45, 45, 38, 30, 22, 8, 8, 15, 30, 50, 52},
+            new int[] {4, 3, 1, 0, 0, 0, 0, 0, 0, 0, 1, 3});
+
+    public static final int CLEAR = 0;
+    public static final int RAINY = 1;
+    public static final int SNOWY = 2;
+    public static final String[] CONDITIONS = {"Clear", "Rainy", "Snowy"};
+    private static final int CONDITION_COUNT = 3;
+
+    private static final int MONTHS = 12;
+    private static final double PERSISTENCE = 0.5; // chance that tomorrow simply repeats today
+
+    private final int[] typicalHigh;
+
+    // For month m, a day picked without knowing the day before is condition t when the draw
+    // falls below shares[m * 3 + t] and above the entry before it
+    private final double[] shares = new double[MONTHS * CONDITION_COUNT];
+
+    // For month m and today's condition c, tomorrow is condition t when the draw falls
+    // below transitions[(m * 3 + c) * 3 + t] and above the entry before it
+    private final double[] transitions = new double[MONTHS * CONDITION_COUNT * CONDITION_COUNT];
+
+    Climate(int[] typicalHigh, int[] rainPercent, int[] snowPercent) {
+        this.typicalHigh = typicalHigh;
+        double[] share = new double[CONDITION_COUNT];
+        for (int month = 0; month < MONTHS; month++) {
+            share[RAINY] = rainPercent[month] / 100.0;
+            share[SNOWY] = snowPercent[month] / 100.0;
+            share[CLEAR] = 1 - share[RAINY] - share[SNOWY];
+            shares[month * CONDITION_COUNT + CLEAR] = share[CLEAR];
+            shares[month * CONDITION_COUNT + RAINY] = share[CLEAR] + share[RAINY];
+            shares[month * CONDITION_COUNT + SNOWY] = 1;
+            for (int today = 0; today < CONDITION_COUNT; today++) {
+                // Repeating today never makes a condition that the month does not have
+                double keep = share[today] > 0 ? PERSISTENCE : 0;
+                double cumulative = 0;
+                for (int tomorrow = 0; tomorrow < CONDITION_COUNT; tomorrow++) {
+                    cumulative += (1 - keep) * share[tomorrow] + (tomorrow == today ? keep : 0);
+                    transitions[(month * CONDITION_COUNT + today) * CONDITION_COUNT + tomorrow] = cumulative;
+                }
+                transitions[(month * CONDITION_COUNT + today) * CONDITION_COUNT + CONDITION_COUNT - 1] = 1;
+            }
+        }
+    }
+
+    /**
+     * Picks the condition of a day without knowing the day before, as often as the month's
+     * climate says each condition comes up.
+     *
+     * @param month The calendar month, 1 for January to 12 for December
+     * @param uniform A random number from 0 up to but not including 1
+     * @return The day's condition
+     */
+    public int firstCondition(int month, double uniform) {
+        int row = monthIndex(month) * CONDITION_COUNT;
+        int condition = 0;
+        while (condition < CONDITION_COUNT - 1 && uniform >= shares[row + condition]) {
+            condition++;
+        }
+        return condition;
+    }
+
+    /**
+     * Picks tomorrow's condition.
+     *
+     * @param month The calendar month, 1 for January to 12 for December
+     * @param today Today's condition: CLEAR, RAINY or SNOWY
+     * @param uniform A random number from 0 up to but not including 1
+     * @return Tomorrow's condition
+     */
+    public int nextCondition(int month, int today, double uniform) {
+        int row = row(month, today);
+        int tomorrow = 0;
+        while (tomorrow < CONDITION_COUNT - 1 && uniform >= transitions[row + tomorrow]) {
+            tomorrow++;
+        }
+        return tomorrow;
+    }
+
+    /**
+     * Gets where a draw fell within the chances of the condition it picked, which is itself a
+     * random number from 0 up to 1. This lets the same draw also decide how mild or severe
+     * the day is.
+     *
+     * @param month The calendar month, 1 for January to 12 for December
+     * @param today Today's condition
+     * @param tomorrow The condition the draw picked
+     * @param uniform The draw
+     * @return How severe the day is, from 0 for the mildest up to 1 for the harshest
+     */
+    public double severity(int month, int today, int tomorrow, double uniform) {
+        int row = row(month, today);
+        double low = tomorrow == 0 ? 0 : transitions[row + tomorrow - 1];
+        double high = transitions[row + tomorrow];
+        return high > low ? Math.min(Math.max((uniform - low) / (high - low), 0), 0.999999) : 0;
+    }
+
+    /**
+     * Gets the chance that it rains or snows tomorrow.
+     *
+     * @param month The calendar month, 1 for January to 12 for December
+     * @param today Today's condition
+     * @return The chance, from 0 to 1
+     */
+    public double getPrecipitationChance(int month, int today) {
+        return 1 - transitions[row(month, today) + CLEAR];
+    }
+
+    /**
+     * Gets the typical high temperature for a month.
+     *
+     * @param month The calendar month, 1 for January to 12 for December
+     * @return The temperature in degrees Fahrenheit
+     */
+    public int getTypicalHigh(int month) {
+        return typicalHigh[monthIndex(month)];
+    }
+
+    private int row(int month, int today) {
+        return (monthIndex(month) * CONDITION_COUNT + today) * CONDITION_COUNT;
+    }
+
+    private static int monthIndex(int month) {
+        return Math.floorMod(month - 1, MONTHS);
+    }
+}
@@ -11,7 +11,7 @@ package termProject;
  * @ file : currency.java
  */
 public class Currency {
-    private static int balance;
+    private int balance;
 
     /**
      * Constructor for creating a new currency object with initial balance.
@@ -51,7 +51,7 @@ public class Currency {
      * 
      * @return The current balance
      */
-    public static int getBalance() {
+    public int getBalance() {
         return balance;
     }
 
@@ -0,0 +1,53 @@
+package termProject;
+
+/**
+ * DecisionPolicy Interface of the Perils Along the Platte Game
+ * Makes the choices a player would otherwise make through dialogs.
+ * Lets a TrailSimulation run a full journey without any user interface.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : decisionPolicy.java
+ */
+public interface DecisionPolicy {
+    /**
+     * River crossing choices, in the order they are offered in the game window.
+     */
+    int FORD = 0;
+    int FERRY = 1;
+    int GUIDE = 2;
+    int WAIT = 3;
+
+    /**
+     * Chooses how many miles the party attempts to travel today.
+     *
+     * @param simulation The journey being simulated
+     * @return The number of miles to attempt
+     */
+    int milesToTravel(TrailSimulation simulation);
+
+    /**
+     * Chooses whether the party rests for the day instead of traveling.
+     *
+     * @param simulation The journey being simulated
+     * @return true to rest, false to travel
+     */
+    boolean shouldRest(TrailSimulation simulation);
+
+    /**
+     * Chooses whether to hunt after being warned that food is low.
+     *
+     * @param simulation The journey being simulated
+     * @return true to go hunting, false otherwise
+     */
+    boolean shouldHunt(TrailSimulation simulation);
+
+    /**
+     * Chooses how to cross a river.
+     *
+     * @param simulation The journey being simulated
+     * @return One of FORD, FERRY, GUIDE or WAIT
+     */
+    int chooseRiverCrossing(TrailSimulation simulation);
+}
@@ -0,0 +1,149 @@
+package termProject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EventTable Class of the Perils Along the Platte Game
+ * Picks one of several outcomes at random, each with its own weight.
+ * The table is laid out with Vose's alias method whenever an outcome is added, so picking an
+ * outcome takes a single random number and the same small amount of work however many outcomes
+ * there are. Adding an outcome never adds another roll or another branch when picking.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : eventTable.java
+ */
+public class EventTable<T> {
+    private final List<T> outcomes = new ArrayList<>();
+    private final List<Double> weights = new ArrayList<>();
+    private double totalWeight;
+
+    // Column i holds outcome i with chance probability[i], otherwise outcome alias[i]
+    private double[] probability = new double[0];
+    private int[] alias = new int[0];
+
+    /**
+     * Adds an outcome to the table.
+     * Outcomes are picked in proportion to their weights, so weights of 70 and 30 give
+     * chances of 70% and 30%.
+     *
+     * @param weight The outcome's weight, which may be 0 for an outcome that never happens
+     * @param outcome The outcome
+     * @return This table, so outcomes can be added one after another
+     * @throws IllegalArgumentException If the weight is negative or not a number
+     */
+    public EventTable<T> add(double weight, T outcome) {
+        if (!(weight >= 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Invalid weight " + weight + " for " + outcome);
+        }
+        if (weight > 0) {
+            outcomes.add(outcome);
+            weights.add(weight);
+            totalWeight += weight;
+            build();
+        }
+        return this;
+    }
+
+    /**
+     * Adds every outcome of another table, sharing out a weight between them in the same
+     * proportions as in that table.
+     * This combines several tables into one, so a single random number can pick between all of them.
+     *
+     * @param weight The weight shared out between the other table's outcomes
+     * @param table The table whose outcomes are added
+     * @return This table, so outcomes can be added one after another
+     * @throws IllegalArgumentException If the weight is negative or not a number
+     */
+    public EventTable<T> addAll(double weight, EventTable<T> table) {
+        if (!(weight >= 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Invalid weight " + weight);
+        }
+        if (weight > 0 && table.totalWeight > 0) {
+            for (int i = 0; i < table.outcomes.size(); i++) {
+                outcomes.add(table.outcomes.get(i));
+                weights.add(weight * table.weights.get(i) / table.totalWeight);
+            }
+            totalWeight += weight;
+            build();
+        }
+        return this;
+    }
+
+    // Vose's alias method: splits the weights into equal columns of at most two outcomes each
+    private void build() {
+        int count = outcomes.size();
+        double[] scaled = new double[count];
+        int[] small = new int[count];
+        int[] large = new int[count];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            scaled[i] = weights.get(i) * count / totalWeight;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        probability = new double[count];
+        alias = new int[count];
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] += scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left over is only a rounding error away from a full column
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     * Picks an outcome at random.
+     *
+     * @param random The random number generator, which is drawn from once
+     * @return The outcome picked
+     * @throws IllegalStateException If the table has no outcomes
+     */
+    public T sample(GameRandom random) {
+        return sample(random.nextDouble());
+    }
+
+    /**
+     * Picks the outcome for a random number that has already been drawn.
+     *
+     * @param uniform A random number from 0 up to but not including 1
+     * @return The outcome picked
+     * @throws IllegalStateException If the table has no outcomes
+     */
+    public T sample(double uniform) {
+        if (probability.length == 0) {
+            throw new IllegalStateException("The event table is empty");
+        }
+        double position = uniform * probability.length;
+        int column = Math.min((int) position, probability.length - 1);
+        return position - column < probability[column] ? outcomes.get(column) : outcomes.get(alias[column]);
+    }
+
+    public int size() {
+        return outcomes.size();
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+}
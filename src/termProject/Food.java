@@ -1,5 +1,7 @@
 package termProject;
 
+import java.nio.ByteBuffer;
+
 /**
  * Food Class of the Perils Along the Platte Game
  * Represents food items that can be consumed by players and animals.
@@ -98,10 +100,12 @@ public class Food extends Item {
      * Checks if a perishable food item has expired.
      * Uses random chance to determine expiration.
      * 
+     * @param random The random number generator for the game
      * @return true if the food has expired, false otherwise
      */
-    public boolean isExpired() {
-        return Math.random() < 0.1; // 10% chance food is expired
+    @Override
+    public boolean isExpired(GameRandom random) {
+        return random.nextDouble() < 0.1; // 10% chance food is expired
     }
 
     /**
@@ -127,4 +131,22 @@ public class Food extends Item {
     public static Food createBacon(int quantity) {
         return new Food("Bacon", 10, quantity, 6, false);
     }
-}
\ No newline at end of file
+
+    @Override
+    void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+        buffer.putInt(nutrition);
+        GameStateCodec.putBoolean(perishable, buffer);
+        GameStateCodec.putBoolean(marketFood, buffer);
+        buffer.putInt(price);
+    }
+
+    @Override
+    void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+        nutrition = buffer.getInt();
+        perishable = GameStateCodec.getBoolean(buffer);
+        marketFood = GameStateCodec.getBoolean(buffer);
+        price = buffer.getInt();
+    }
+}
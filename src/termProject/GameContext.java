@@ -0,0 +1,96 @@
+package termProject;
+
+/**
+ * GameContext Class of the Perils Along the Platte Game
+ * Owns everything that belongs to one game session.
+ * Each session has its own player, map, wagon, clock, weather, money and random numbers,
+ * so any number of games can run side by side in the same program.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : gameContext.java
+ */
+public class GameContext {
+    private static final int STARTING_MONEY = 1600;
+
+    private final GameRandom random;
+    private final Player player;
+    private final GameMap gameMap;
+    private final Inventory inventory;
+    private final Wagon wagon;
+    private final Time gameTime;
+    private final Weather weather;
+    private final Currency money;
+    private final Hunting huntingSystem;
+    private final Movement movement;
+
+    /**
+     * Constructor for a new game session with an unpredictable seed.
+     */
+    public GameContext() {
+        this(new GameRandom());
+    }
+
+    /**
+     * Constructor for a new game session.
+     * Creates a fresh player with the standard starting money and supplies.
+     *
+     * @param random The random number generator for the session
+     */
+    public GameContext(GameRandom random) {
+        this.random = random;
+        player = new Player("Player 1", "Male", STARTING_MONEY);
+        gameMap = new GameMap(0, 0);
+        wagon = new Wagon();
+        gameTime = new Time();
+        weather = new Weather(random);
+        money = player.getMoney();
+        huntingSystem = new Hunting(player, random);
+        movement = new Movement(gameMap, player, wagon, weather, gameTime, random);
+
+        player.setWagon(wagon);
+        player.createInventory();
+        inventory = player.getInventory();
+    }
+
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public GameMap getGameMap() {
+        return gameMap;
+    }
+
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public Wagon getWagon() {
+        return wagon;
+    }
+
+    public Time getTime() {
+        return gameTime;
+    }
+
+    public Weather getWeather() {
+        return weather;
+    }
+
+    public Currency getMoney() {
+        return money;
+    }
+
+    public Hunting getHuntingSystem() {
+        return huntingSystem;
+    }
+
+    public Movement getMovement() {
+        return movement;
+    }
+}
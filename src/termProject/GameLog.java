@@ -0,0 +1,137 @@
+package termProject;
+
+import javax.swing.JTextArea;
+import javax.swing.Timer;
+import javax.swing.text.BadLocationException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameLog Class of the Perils Along the Platte Game
+ * Keeps the most recent game messages and shows them in a text area.
+ * Messages can be added from any thread. They are held in a fixed-size ring and shown in one
+ * batch per frame, and the oldest lines are removed from the text area as new ones arrive,
+ * so a long journey does not make the log grow or slow down.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : gameLog.java
+ */
+public class GameLog {
+    public static final int DEFAULT_CAPACITY = 500;
+
+    private static final int FLUSH_DELAY_MS = 16; // about one frame
+
+    private final JTextArea textArea;
+    private final String[] lines;
+    private final Timer flushTimer;
+
+    private int first;    // where the oldest line is kept
+    private int size;
+    private int unshown;  // lines added since the text area was last updated
+    private boolean flushScheduled;
+
+    /**
+     * Constructor for a game log that keeps DEFAULT_CAPACITY lines.
+     *
+     * @param textArea The text area that shows the log
+     */
+    public GameLog(JTextArea textArea) {
+        this(textArea, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for a game log.
+     *
+     * @param textArea The text area that shows the log
+     * @param capacity The number of lines to keep
+     */
+    public GameLog(JTextArea textArea, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("A game log must keep at least one line");
+        }
+        this.textArea = textArea;
+        this.lines = new String[capacity];
+        this.flushTimer = new Timer(FLUSH_DELAY_MS, e -> flush());
+        flushTimer.setRepeats(false);
+        // A coalescing timer drops an event that fires while the last one is still running,
+        // which would leave lines added during a flush unshown
+        flushTimer.setCoalesce(false);
+    }
+
+    /**
+     * Adds a message to the log.
+     * This can be called from any thread; the text area is updated shortly afterwards on the
+     * Event Dispatch Thread.
+     *
+     * @param message The message to add
+     */
+    public synchronized void append(String message) {
+        if (size < lines.length) {
+            lines[(first + size) % lines.length] = message;
+            size++;
+        } else {
+            lines[first] = message;
+            first = (first + 1) % lines.length;
+        }
+        if (unshown < lines.length) {
+            unshown++;
+        }
+        if (!flushScheduled) {
+            flushScheduled = true;
+            flushTimer.start();
+        }
+    }
+
+    /**
+     * Gets the messages in the log, oldest first.
+     *
+     * @return A copy of the kept messages
+     */
+    public synchronized List<String> getLines() {
+        List<String> copy = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            copy.add(lines[(first + i) % lines.length]);
+        }
+        return copy;
+    }
+
+    public int getCapacity() {
+        return lines.length;
+    }
+
+    // Shows the lines added since the last update in one edit, then removes lines beyond the capacity
+    private void flush() {
+        StringBuilder text = new StringBuilder();
+        boolean replaceAll;
+        synchronized (this) {
+            flushScheduled = false;
+            replaceAll = unshown >= lines.length;
+            for (int i = size - unshown; i < size; i++) {
+                text.append(lines[(first + i) % lines.length]).append('\n');
+            }
+            unshown = 0;
+        }
+
+        if (replaceAll) {
+            textArea.setText(text.toString());
+        } else {
+            textArea.append(text.toString());
+            trim();
+        }
+        textArea.setCaretPosition(textArea.getDocument().getLength());
+    }
+
+    private void trim() {
+        // Every line ends with a newline, so the text area counts an empty line after the last one
+        int excess = textArea.getLineCount() - 1 - lines.length;
+        if (excess > 0) {
+            try {
+                textArea.replaceRange(null, 0, textArea.getLineEndOffset(excess - 1));
+            } catch (BadLocationException e) {
+                System.out.println("Error trimming game log: " + e.getMessage());
+            }
+        }
+    }
+}
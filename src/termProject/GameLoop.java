@@ -0,0 +1,128 @@
+package termProject;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * GameLoop Class of the Perils Along the Platte Game
+ * Runs the game on its own thread so the window stays responsive while a turn is worked out.
+ * The game session is only ever changed on the game loop thread. The window sends it commands,
+ * and after each command the loop takes a GameSnapshot and hands it to the window on the
+ * Event Dispatch Thread. When a turn needs an answer from the player, the loop asks on the
+ * Event Dispatch Thread and waits for the reply.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : gameLoop.java
+ */
+public class GameLoop {
+    private final ScheduledExecutorService loop = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "Game loop");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Consumer<GameSnapshot> view;
+    private GameContext context;
+
+    /**
+     * Constructor for a game loop.
+     *
+     * @param view The receiver for a snapshot of the game after each command, called on the Event Dispatch Thread
+     */
+    public GameLoop(Consumer<GameSnapshot> view) {
+        this.view = view;
+    }
+
+    /**
+     * Hands a game session to the loop, which owns it from then on, and shows it.
+     *
+     * @param context The game session
+     */
+    public void start(GameContext context) {
+        loop.execute(() -> {
+            this.context = context;
+            publish();
+        });
+    }
+
+    /**
+     * Runs a command on the game loop thread and then shows the game as the command left it.
+     * Commands run one at a time in the order they were sent.
+     *
+     * @param command The command, which receives the game session
+     */
+    public void execute(Consumer<GameContext> command) {
+        loop.execute(() -> run(command));
+    }
+
+    /**
+     * Runs a command on the game loop thread over and over, showing the game after each run.
+     * Other commands still run in between. A run that is held up, such as by a dialog, delays
+     * the next one rather than making the missed runs happen all at once.
+     *
+     * @param delayMillis The time from the end of one run to the start of the next, in milliseconds
+     * @param command The command, which receives the game session
+     * @return The repeating command, which can be cancelled to stop it
+     */
+    public ScheduledFuture<?> executeEvery(long delayMillis, Consumer<GameContext> command) {
+        return loop.scheduleWithFixedDelay(() -> run(command), 0, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void run(Consumer<GameContext> command) {
+        if (context == null) {
+            return;
+        }
+        try {
+            command.accept(context);
+        } catch (RuntimeException e) {
+            System.err.println("Error in game loop: " + e);
+            e.printStackTrace();
+        }
+        publish();
+    }
+
+    /**
+     * Asks the player something from the game loop thread, such as by showing a dialog.
+     * The question runs on the Event Dispatch Thread while the game loop waits for the answer.
+     *
+     * @param question The question to ask, which returns the player's answer
+     * @param <T> The type of the answer
+     * @return The player's answer, or null if the question could not be asked
+     */
+    public <T> T ask(Supplier<T> question) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            return question.get();
+        }
+        AtomicReference<T> answer = new AtomicReference<>();
+        try {
+            SwingUtilities.invokeAndWait(() -> answer.set(question.get()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            System.err.println("Error asking the player: " + cause);
+            cause.printStackTrace();
+        }
+        return answer.get();
+    }
+
+    /**
+     * Stops the loop once the commands already sent have run.
+     */
+    public void close() {
+        loop.shutdown();
+    }
+
+    private void publish() {
+        GameSnapshot snapshot = new GameSnapshot(context);
+        SwingUtilities.invokeLater(() -> view.accept(snapshot));
+    }
+}
@@ -10,8 +10,11 @@ package termProject;
  * @ date : 03/25/2025
  * @ file : map.java
  */
+import java.nio.ByteBuffer;
 import java.util.*;
 public class GameMap {
+    private static final LandmarkIndex NO_LANDMARKS = new LandmarkIndex(Collections.emptyList());
+
     private String trailType;
     private String startLocation;
     private String endLocation = "Independence Rock"; // or somewhere between there and ft. laramie
@@ -20,9 +23,9 @@ public class GameMap {
 
     private int currentLandmarkIndex;
 
-    private static ArrayList<Landmark> landmarks1 = new ArrayList<>();
-    private static int playerX;
-    private static int playerY;
+    private LandmarkIndex landmarkIndex = NO_LANDMARKS;
+    private int playerX;
+    private int playerY;
     private Landmark landmark;
 
     /**
@@ -55,16 +58,16 @@ public class GameMap {
         return playerY;
     }
     
-    public int getX(int landmarkIndex) {
-        if (landmarkIndex >= 0 && landmarkIndex < landmarks1.size()) {
-            return landmarks1.get(landmarkIndex).getX();  // Assuming landmark class has a getX() method
+    public int getX(int index) {
+        if (index >= 0 && index < landmarkIndex.size()) {
+            return landmarkIndex.get(index).getX();  // Assuming landmark class has a getX() method
         }
         return -1;  // Return -1 if index is out of bounds
     }
 
-    public int getY(int landmarkIndex) {
-        if (landmarkIndex >= 0 && landmarkIndex < landmarks1.size()) {
-            return landmarks1.get(landmarkIndex).getY();  // Assuming landmark class has a getY() method
+    public int getY(int index) {
+        if (index >= 0 && index < landmarkIndex.size()) {
+            return landmarkIndex.get(index).getY();  // Assuming landmark class has a getY() method
         }
         return -1;  // Return -1 if index is out of bounds
     }
@@ -92,15 +95,11 @@ public class GameMap {
         this.currentDistanceTraveled = 0;
         this.currentLandmarkIndex = 0;
 
-        if (trailType.equals("Oregon")) {
-            totalDistance = 830;
-            initializeOregonTrail();
-        } else if (trailType.equals("California")) {
-            totalDistance = 830;
-            initializeCaliforniaTrail();
-        } else if (trailType.equals("Mormon")) {
-            totalDistance = 965;
-            initializeMormonTrail();
+        Trail trail = TrailCatalog.getTrail(trailType);
+        if (trail != null) {
+            totalDistance = trail.getTotalDistance();
+            endLocation = trail.getEndLocation();
+            landmarkIndex = trail.getLandmarkIndex();
         }
     }
 
@@ -119,129 +118,26 @@ public class GameMap {
     }
     
     public void makeMarket(String name, int positionX, int positionY, int distance, String description, String historicalInfo, boolean hasRiver, boolean isTradePost) {
-    	Landmark market = new Landmark(name, positionX, positionY, distance, description, historicalInfo, false, false);
+    	Landmark market = new Landmark(name, positionX, positionY, distance, description, historicalInfo, hasRiver, isTradePost);
+    	List<Landmark> landmarks = new ArrayList<>(landmarkIndex.getLandmarks());
     	landmarks.add(market);
+    	landmarkIndex = new LandmarkIndex(landmarks);
     }
     
     public boolean isAtTradePost(int x, int y) {
-    	for(Landmark lm : landmarks) {
-    		if(lm.getX() == x && lm.getY() == y && lm.isTradePost()) {
-    			return true;
-    		}
-    	}
-    	return false;
+    	return landmarkIndex.tradePostAt(x, y) != null;
     }
-    
-    //Change positions of the landmarks later(adjust to proper location on the map
-    /**
-     * Initializes the landmarks for the Oregon Trail.
-     * Creates landmarks with their locations, distances, and descriptions.
-     */
-    public static void initializeOregonTrail()
-    {
-        landmarks1.add(new Landmark("Independence, Missouri", 0, 0, 0, "Starting point for many westward journeys.",
-                "This busy frontier town serves as the main outfitting point for wagon trains. Shops are selling everything from wagons and oxen to food supplies at premium prices.",
-                false, true));
-
-        landmarks1.add(new Landmark("Kansas River Crossing", 40, 40, 83, "A challenging river that must be forded, ferried, or crossed by raft.",
-                "This river is approximately 200 feet wide and up to 20 feet deep in places. Crossing it poses your first major challenge of the journey.",
-                true, false));
-
-        landmarks1.add(new Landmark("Fort Kearny", 150, 150, 304, "Military post established to protect travelers on the Oregon Trail.",
-                "Established in 1848, this fort provides protection, supplies, mail service, and repairs for emigrants. It's your first chance to resupply since Independence.",
-                false, true));
 
-        landmarks1.add(new Landmark("Chimney Rock", 250, 250, 554, "Distinctive rock formation that served as an important landmark.",
-                "This unusual natural formation rises nearly 300 feet and was mentioned in many pioneer journals. It meant travelers were making good progress.",
-                false, false));
-
-        landmarks1.add(new Landmark("Fort Laramie", 320, 320, 640, "Major stopping point for pioneers to rest and resupply.",
-                "This former fur trading post became a military fort in 1849. It offers protection, supplies, and much-needed rest for weary travelers.",
-                false, true));
-
-        landmarks1.add(new Landmark("Independence Rock", 415, 415, 830, "Travelers tried to reach here by July 4th (Independence Day). This is your final destination.",
-                "This large granite rock contains thousands of pioneer names carved into its surface. Reaching it means you have successfully completed your journey along the Platte River portion of the Oregon Trail.",
-                false, true));
-    }
-    
-    //Change positions of the landmarks later(adjust to proper location on the map
     /**
-     * Initializes the landmarks for the California Trail.
-     * Creates landmarks with their locations, distances, and descriptions.
+     * Gets the distance-sorted index of the current trail's landmarks.
+     * The index is shared with every other game on the same trail.
+     * 
+     * @return The landmark index
      */
-    public static void initializeCaliforniaTrail() {
-        landmarks1 = new ArrayList<>();
-
-        landmarks1.add(new Landmark("Independence, Missouri", 0, 0, 0, "Starting point for many westward journeys.",
-                "This busy frontier town serves as the main outfitting point for wagon trains. Shops are selling everything from wagons and oxen to food supplies at premium prices.",
-                false, true));
-
-        landmarks1.add(new Landmark("Fort Kearny", 150, 150, 304, "Military post on the Platte River.",
-                "This fort provides protection and supplies for travelers, as well as mail service to send letters back east.",
-                false, true));
-
-        landmarks1.add(new Landmark("Chimney Rock", 250, 250, 554, "Distinctive rock formation visible for miles.",
-                "Rising nearly 300 feet above the North Platte River valley, this landmark let pioneers know they were on the right path.",
-                false, false));
-
-        landmarks1.add(new Landmark("Fort Laramie", 320, 320, 640, "Trading post and military fort.",
-                "This fort provides a chance to rest, resupply, and repair equipment before the more difficult terrain ahead.",
-                false, true));
-
-        landmarks1.add(new Landmark("Independence Rock", 415, 415, 830, "Travelers tried to reach here by July 4th. This is your final destination.",
-                "This large granite rock contains thousands of pioneer names carved into its surface. Reaching Independence Rock means you have successfully completed your journey along the Platte River portion of the California Trail.",
-                false, true));
+    public LandmarkIndex getLandmarkIndex() {
+        return landmarkIndex;
     }
     
-    //Change the landmark locations to be the proper locations on the map
-    /**
-     * Initializes the landmarks for the Mormon Trail.
-     * Creates landmarks with their locations, distances, and descriptions.
-     */
-    public static void initializeMormonTrail() {
-        landmarks1 = new ArrayList<>();
-
-        landmarks1.add(new Landmark("Nauvoo, Illinois", 0, 0, 0, "Starting point for Mormon pioneers fleeing religious persecution.",
-                "Once a thriving city of 12,000 Mormons, Nauvoo has been largely abandoned after persecution and the murder of church leader Joseph Smith in 1844.",
-                false, false));
-
-        landmarks1.add(new Landmark("Sugar Creek", 3, 3, 7, "First camp across the Mississippi, where Brigham Young organized the exodus.",
-                "This temporary settlement became the gathering place for Mormons after crossing the frozen Mississippi River in February 1846.",
-                false, false));
-
-        landmarks1.add(new Landmark("Garden Grove", 64, 64, 128, "First permanent settlement established to help future travelers.",
-                "Mormon pioneers created this settlement to plant crops that would help later emigrants following the same route.",
-                false, false));
-
-        landmarks1.add(new Landmark("Mount Pisgah", 73, 79, 153, "Second way station with farms to supply later pioneers.",
-                "Like Garden Grove, this settlement was established to grow food for future Mormon emigrants on their journey west.",
-                false, false));
-
-        landmarks1.add(new Landmark("Council Bluffs", 135, 135, 265, "Winter quarters where many Mormons stayed during 1846-1847.",
-                "This settlement on the east bank of the Missouri River became a major staging area for the Mormon migration west.",
-                true, false));
-
-        landmarks1.add(new Landmark("Winter Quarters", 233, 233, 266, "Settlement in present-day Omaha where many died during the harsh winter.",
-                "Over 700 temporary log cabins housed Mormons during the difficult winter of 1846-47. Disease claimed many lives here.",
-                false, false));
-
-        landmarks1.add(new Landmark("Fort Kearny", 250, 250, 493, "Military post where trails converged.",
-                "Here the Mormon Trail joins the Oregon Trail. The fort provides protection and supplies for travelers.",
-                false, true));
-
-        landmarks1.add(new Landmark("Chimney Rock", 350, 350, 718, "Notable landmark visible for miles.",
-                "This distinctive rock formation was a welcome sight indicating good progress on the journey west.",
-                false, false));
-
-        landmarks1.add(new Landmark("Fort Laramie", 390, 390, 788, "Trading post and military fort.",
-                "This fort provides a chance to rest, resupply, and repair equipment before the more difficult terrain ahead.",
-                false, true));
-
-        landmarks1.add(new Landmark("Independence Rock", 490, 490, 965, "Large granite outcropping where travelers carved their names. This is your final destination.",
-                "Many Mormon pioneers added their names to thousands of others on this 'register of the desert.' Reaching Independence Rock means you have successfully completed your journey along the Platte River portion of the Mormon Trail.",
-                false, true));
-    }
-
     /**
      * Gets the name of the current location.
      * 
@@ -249,7 +145,6 @@ public class GameMap {
      */
     // Add these fields at the class level
     private int currentPosition = 0;
-    private ArrayList<Landmark> landmarks;
     private String currentTrail;
     
     /**
@@ -258,12 +153,7 @@ public class GameMap {
      * @return The current landmark or null if not at a landmark
      */
     public Landmark getCurrentLandmark1() {
-        for (Landmark l : landmarks1) {
-            if (Math.abs(currentPosition - l.getDistance()) < 5) {
-                return l;
-            }
-        }
-        return null;
+        return landmarkIndex.near(currentPosition, 5);
     }
 
     /**
@@ -287,14 +177,23 @@ public class GameMap {
         return currentDistanceTraveled;
     }
 
+    /**
+     * Gets the climate of the stretch of trail the player is on.
+     * 
+     * @return The climate at the distance traveled so far
+     */
+    public Climate getClimate() {
+        return landmarkIndex.climateAt(currentDistanceTraveled);
+    }
+
     /**
      * Gets the name of the current landmark.
      * 
      * @return The name of the current landmark or "Unknown location" if none
      */
     public String getCurrentLandmark() {
-        if (currentLandmarkIndex < landmarks1.size()) {
-            return landmarks1.get(currentLandmarkIndex).getName();
+        if (currentLandmarkIndex < landmarkIndex.size()) {
+            return landmarkIndex.get(currentLandmarkIndex).getName();
         }
         return "Unknown location";
     }
@@ -305,8 +204,8 @@ public class GameMap {
      * @return The remaining distance in miles
      */
     public int getRemainingDistance() {
-        if (currentLandmarkIndex < landmarks1.size()) {
-            return totalDistance - landmarks1.get(currentLandmarkIndex).getDistance();
+        if (currentLandmarkIndex < landmarkIndex.size()) {
+            return totalDistance - landmarkIndex.get(currentLandmarkIndex).getDistance();
         }
         return 0;
     }
@@ -357,8 +256,8 @@ public class GameMap {
      * @return The name of the landmark or null if index is invalid
      */
     public String getLandmarkAtIndex(int index) {
-        if (index >= 0 && index < landmarks1.size()) {
-            return landmarks1.get(index).getName();
+        if (index >= 0 && index < landmarkIndex.size()) {
+            return landmarkIndex.get(index).getName();
         }
         return null;
     }
@@ -370,24 +269,46 @@ public class GameMap {
      * @return The distance of the landmark or -1 if index is invalid
      */
     public int getLandmarkDistanceAtIndex(int index) {
-        if (index >= 0 && index < landmarks1.size()) {
-            return landmarks1.get(index).getDistance();
+        if (index >= 0 && index < landmarkIndex.size()) {
+            return landmarkIndex.get(index).getDistance();
         }
         return 0;
     }
 
+    /**
+     * Gets the landmark the player most recently reached along the trail.
+     * 
+     * @return The last landmark reached or null if no trail has been set
+     */
+    public Landmark getLastLandmarkReached() {
+        return landmarkIndex.get(currentLandmarkIndex);
+    }
+
+    /**
+     * Gets the next landmark ahead of the player on the trail.
+     * 
+     * @return The next landmark or null if the player has passed them all
+     */
+    public Landmark getNextLandmark() {
+        return landmarkIndex.next(currentDistanceTraveled);
+    }
+
+    /**
+     * Gets the landmark reached before the most recent one.
+     * 
+     * @return The previous landmark or null if there is none
+     */
+    public Landmark getPreviousLandmark() {
+        return landmarkIndex.previous(currentDistanceTraveled);
+    }
+
     /**
      * Checks if the player has reached the final destination.
      * 
      * @return true if the final landmark has been reached, false otherwise
      */
     public boolean hasReachedNewLandmark() {
-        for (Landmark l : landmarks1) {
-            if (Math.abs(currentPosition - l.getPosition()) < 5) {
-                return true;
-            }
-        }
-        return false;
+        return landmarkIndex.near(currentPosition, 5) != null;
     }
 
     /**
@@ -396,11 +317,11 @@ public class GameMap {
      * @return The size of the landmarks array
      */
     public int getLandmarkArraySize() {
-        return landmarks1.size();
+        return landmarkIndex.size();
     }
     
-    public ArrayList<Landmark> getLandmarks(){
-    	return landmarks1;
+    public List<Landmark> getLandmarks(){
+    	return landmarkIndex.getLandmarks();
     }
     /**
      * Updates the player's location to reflect traveling a specified distance.
@@ -417,14 +338,7 @@ public class GameMap {
 
         currentDistanceTraveled = newDistance;
 
-        for(int i = currentLandmarkIndex; i < landmarks1.size(); i++){
-            if(landmarks1.get(i).getDistance() <= currentDistanceTraveled){
-                currentLandmarkIndex = i;
-            }
-            else{
-                break;
-            }
-        }
+        currentLandmarkIndex = Math.max(currentLandmarkIndex, landmarkIndex.indexAtOrBefore(currentDistanceTraveled));
     }
 
     /**
@@ -433,12 +347,12 @@ public class GameMap {
      * @return The distance to the next landmark in miles
      */
     public int getDistanceToNextLandmark() {
-        if (currentLandmarkIndex < landmarks1.size() - 1) {
-            int currentDistance = landmarks1.get(currentLandmarkIndex).getDistance();
-            int nextDistance = landmarks1.get(currentLandmarkIndex + 1).getDistance();
+        if (currentLandmarkIndex < landmarkIndex.size() - 1) {
+            int currentDistance = landmarkIndex.get(currentLandmarkIndex).getDistance();
+            int nextDistance = landmarkIndex.get(currentLandmarkIndex + 1).getDistance();
             return nextDistance - currentDistance;
         }
-        return totalDistance - landmarks1.get(currentLandmarkIndex).getDistance();
+        return totalDistance - landmarkIndex.get(currentLandmarkIndex).getDistance();
     }
 
     /**
@@ -446,8 +360,8 @@ public class GameMap {
      * Includes the landmark name, description, and other relevant details.
      */
     public void displayLandmarkInformation() {
-        if (currentLandmarkIndex < landmarks1.size()) {
-            Landmark current = landmarks1.get(currentLandmarkIndex);
+        if (currentLandmarkIndex < landmarkIndex.size()) {
+            Landmark current = landmarkIndex.get(currentLandmarkIndex);
             System.out.println("\n=====================================================");
             System.out.println("                  " + current.getName());
             System.out.println("=====================================================");
@@ -461,4 +375,119 @@ public class GameMap {
             }
         }
     }
+
+    /**
+     * Writes the trail and the player's progress along it for a saved game.
+     * Landmarks are only written out if markets have been added to the standard trail.
+     *
+     * @param buffer The buffer to write to
+     */
+    void writeState(ByteBuffer buffer) {
+        GameStateCodec.putString(trailType, buffer);
+        GameStateCodec.putString(startLocation, buffer);
+        GameStateCodec.putString(endLocation, buffer);
+        GameStateCodec.putString(currentTrail, buffer);
+        buffer.putInt(totalDistance);
+        buffer.putInt(currentDistanceTraveled);
+        buffer.putInt(currentLandmarkIndex);
+        buffer.putInt(currentPosition);
+        buffer.putInt(playerX);
+        buffer.putInt(playerY);
+
+        boolean customLandmarks = landmarkIndex != standardLandmarks(trailType);
+        GameStateCodec.putBoolean(customLandmarks, buffer);
+        if (customLandmarks) {
+            buffer.putInt(landmarkIndex.size());
+            for (Landmark landmark : landmarkIndex.getLandmarks()) {
+                GameStateCodec.putString(landmark.getName(), buffer);
+                buffer.putInt(landmark.getX());
+                buffer.putInt(landmark.getY());
+                buffer.putInt(landmark.getDistance());
+                GameStateCodec.putString(landmark.getDescription(), buffer);
+                GameStateCodec.putString(landmark.getHistoricalInfo(), buffer);
+                GameStateCodec.putBoolean(landmark.hasRiver(), buffer);
+                GameStateCodec.putBoolean(landmark.isTradePost(), buffer);
+                buffer.put((byte) (landmark.getClimate() != null ? landmark.getClimate().ordinal() + 1 : 0));
+            }
+        }
+    }
+
+    /**
+     * Reads the trail and the player's progress along it from a saved game.
+     *
+     * @param buffer The buffer to read from
+     * @param withClimate Whether saved landmarks are followed by their climate. Saves made before
+     *                    climates were stored take each landmark's climate from the standard trail.
+     */
+    void readState(ByteBuffer buffer, boolean withClimate) {
+        trailType = GameStateCodec.getString(buffer);
+        startLocation = GameStateCodec.getString(buffer);
+        endLocation = GameStateCodec.getString(buffer);
+        currentTrail = GameStateCodec.getString(buffer);
+        totalDistance = buffer.getInt();
+        currentDistanceTraveled = buffer.getInt();
+        currentLandmarkIndex = buffer.getInt();
+        currentPosition = buffer.getInt();
+        playerX = buffer.getInt();
+        playerY = buffer.getInt();
+
+        if (GameStateCodec.getBoolean(buffer)) {
+            LandmarkIndex standard = standardLandmarks(trailType);
+            List<Landmark> landmarks = new ArrayList<>();
+            for (int i = buffer.getInt(); i > 0; i--) {
+                String name = GameStateCodec.getString(buffer);
+                int x = buffer.getInt();
+                int y = buffer.getInt();
+                int distance = buffer.getInt();
+                TrailText description = TrailText.of(GameStateCodec.getString(buffer));
+                TrailText historicalInfo = TrailText.of(GameStateCodec.getString(buffer));
+                boolean river = GameStateCodec.getBoolean(buffer);
+                boolean tradePost = GameStateCodec.getBoolean(buffer);
+                Climate climate = withClimate ? readClimate(buffer) : standard.climateAt(distance);
+                landmarks.add(new Landmark(name, x, y, distance, description, historicalInfo, river, tradePost, climate));
+            }
+            landmarkIndex = new LandmarkIndex(landmarks);
+        } else {
+            landmarkIndex = standardLandmarks(trailType);
+        }
+    }
+
+    private static Climate readClimate(ByteBuffer buffer) {
+        int climate = buffer.get();
+        return climate > 0 && climate <= Climate.values().length ? Climate.values()[climate - 1] : null;
+    }
+
+    // The catalog's landmarks for a trail, or none if the trail is unknown
+    private static LandmarkIndex standardLandmarks(String trailType) {
+        Trail trail = trailType != null ? TrailCatalog.getTrail(trailType) : null;
+        return trail != null ? trail.getLandmarkIndex() : NO_LANDMARKS;
+    }
+
+    /**
+     * Copies the player's progress along the trail into a journal entry.
+     *
+     * @param values The entry to fill
+     * @param offset Where this map's values start in the entry
+     */
+    void saveProgress(int[] values, int offset) {
+        values[offset] = currentDistanceTraveled;
+        values[offset + 1] = currentPosition;
+        values[offset + 2] = currentLandmarkIndex;
+        values[offset + 3] = playerX;
+        values[offset + 4] = playerY;
+    }
+
+    /**
+     * Restores the player's progress along the trail from a journal entry.
+     *
+     * @param values The entry to read
+     * @param offset Where this map's values start in the entry
+     */
+    void restoreProgress(int[] values, int offset) {
+        currentDistanceTraveled = values[offset];
+        currentPosition = values[offset + 1];
+        currentLandmarkIndex = values[offset + 2];
+        playerX = values[offset + 3];
+        playerY = values[offset + 4];
+    }
 }
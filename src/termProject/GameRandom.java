@@ -0,0 +1,105 @@
+package termProject;
+
+/**
+ * GameRandom Class of the Perils Along the Platte Game
+ * Supplies the random numbers for one game or simulated journey.
+ * Built on SplittableRandom so every journey has its own generator that can be replayed from its seed.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : gameRandom.java
+ */
+import java.util.SplittableRandom;
+
+public class GameRandom {
+    private final long seed;
+    private final SplittableRandom random;
+
+    /**
+     * Constructor for a generator with an unpredictable seed.
+     */
+    public GameRandom() {
+        this(new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructor for a generator that replays the same numbers for the same seed.
+     * 
+     * @param seed The seed for the generator
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Gets the seed this generator was created with.
+     * 
+     * @return The seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Creates an independent generator seeded from this one.
+     * 
+     * @return A new generator whose numbers do not overlap with this one
+     */
+    public GameRandom split() {
+        return new GameRandom(random.nextLong());
+    }
+
+    /**
+     * Gets a random integer from 0 up to but not including the bound.
+     * 
+     * @param bound The exclusive upper bound
+     * @return The random integer
+     */
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    /**
+     * Gets a random double from 0 up to but not including 1.
+     * 
+     * @return The random double
+     */
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    /**
+     * Gets a random true or false value.
+     * 
+     * @return The random boolean
+     */
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    /**
+     * Gets a random long value.
+     * 
+     * @return The random long
+     */
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    /**
+     * Derives the seed of one journey in a batch from the batch's seed.
+     * Each journey's seed depends only on the batch seed and its number, not on which thread runs it.
+     * 
+     * @param batchSeed The seed of the whole batch
+     * @param journey The number of the journey within the batch
+     * @return The seed for that journey
+     */
+    public static long journeySeed(long batchSeed, long journey) {
+        long z = batchSeed + journey * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
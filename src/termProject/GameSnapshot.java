@@ -0,0 +1,85 @@
+package termProject;
+
+/**
+ * GameSnapshot Class of the Perils Along the Platte Game
+ * A copy of what the game window shows, taken on the game loop thread after each turn.
+ * Snapshots never change once made, so the window can draw from one while the game moves on.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : gameSnapshot.java
+ */
+public final class GameSnapshot {
+    private final LandmarkIndex landmarks;
+    private final String trailType;
+    private final int distanceTraveled;
+    private final int totalDistance;
+    private final int playerX;
+    private final int playerY;
+    private final String date;
+    private final double health;
+    private final int money;
+    private final int foodAmount;
+
+    /**
+     * Constructor for a snapshot of a game session as it is now.
+     * This reads the game, so it must be called from the thread that changes it.
+     *
+     * @param context The game session
+     */
+    public GameSnapshot(GameContext context) {
+        GameMap gameMap = context.getGameMap();
+        landmarks = gameMap.getLandmarkIndex();
+        trailType = gameMap.getTrailType();
+        distanceTraveled = gameMap.getCurrentDistanceTraveled();
+        totalDistance = gameMap.getTotalDistance();
+        playerX = gameMap.getPlayerX();
+        playerY = gameMap.getPlayerY();
+        date = context.getTime().getDate();
+        health = context.getPlayer().getHealth();
+        money = context.getMoney().getBalance();
+        foodAmount = context.getInventory().getFoodAmount();
+    }
+
+    // The landmark index is never changed once built, so it is shared rather than copied
+    public LandmarkIndex getLandmarkIndex() {
+        return landmarks;
+    }
+
+    public String getTrailType() {
+        return trailType;
+    }
+
+    public int getDistanceTraveled() {
+        return distanceTraveled;
+    }
+
+    public int getTotalDistance() {
+        return totalDistance;
+    }
+
+    public int getPlayerX() {
+        return playerX;
+    }
+
+    public int getPlayerY() {
+        return playerY;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public double getHealth() {
+        return health;
+    }
+
+    public int getMoney() {
+        return money;
+    }
+
+    public int getFoodAmount() {
+        return foodAmount;
+    }
+}
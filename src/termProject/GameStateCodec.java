@@ -0,0 +1,305 @@
+package termProject;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * GameStateCodec Class of the Perils Along the Platte Game
+ * Converts a saved game to and from a compact binary form.
+ * A save starts with a small header naming the format version, followed by the player, map,
+ * inventory and clock in a fixed order. Each class writes and reads its own fields, so adding
+ * a field means changing that class and raising the version here. Saves from earlier versions
+ * are still read, with anything they lack worked out again.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : gameStateCodec.java
+ */
+public final class GameStateCodec {
+    private static final int MAGIC = 0x50415053; // "PAPS"
+    private static final short VERSION = 2;
+    private static final short CLIMATE_VERSION = 2; // the first version to save landmark climates
+    private static final int HEADER_SIZE = 12;
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    // Item type tags
+    private static final byte ITEM = 0;
+    private static final byte FOOD = 1;
+    private static final byte WEAPON = 2;
+    private static final byte MEDICINE = 3;
+
+    private GameStateCodec() {
+    }
+
+    /**
+     * Encodes a game state.
+     *
+     * @param state The game state to encode
+     * @return A buffer holding the encoded state, ready to be read or written
+     */
+    public static ByteBuffer encode(GameState state) {
+        int size = INITIAL_BUFFER_SIZE;
+        while (true) {
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            try {
+                encode(state, buffer);
+                buffer.flip();
+                return buffer;
+            } catch (BufferOverflowException e) {
+                size *= 2;
+            }
+        }
+    }
+
+    /**
+     * Encodes a game state into the given buffer.
+     *
+     * @param state The game state to encode
+     * @param buffer The buffer to write to, starting at its position
+     * @throws BufferOverflowException If the buffer is too small for the state
+     */
+    public static void encode(GameState state, ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) 0);
+        buffer.putInt(0); // length of the body, filled in below
+
+        state.getPlayer().writeState(buffer);
+        state.getMap().writeState(buffer);
+        writeInventory(state.getInventory(), buffer);
+        state.getTime().writeState(buffer);
+
+        buffer.putInt(start + 8, buffer.position() - start - HEADER_SIZE);
+    }
+
+    /**
+     * Decodes a game state.
+     *
+     * @param buffer The buffer to read from, starting at its position
+     * @return The decoded game state
+     * @throws IOException If the buffer does not hold a saved game this version can read
+     */
+    public static GameState decode(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+            throw new IOException("Not a saved game");
+        }
+        short version = buffer.getShort();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        buffer.getShort();
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IOException("Saved game is truncated");
+        }
+
+        try {
+            Player player = new Player();
+            player.readState(buffer);
+            GameMap gameMap = new GameMap(0, 0);
+            gameMap.readState(buffer, version >= CLIMATE_VERSION);
+            Inventory inventory = readInventory(buffer);
+            Time gameTime = new Time();
+            gameTime.readState(buffer);
+
+            player.setInventory(inventory);
+            return new GameState(player, gameMap, inventory, gameTime);
+        } catch (BufferUnderflowException | IllegalArgumentException | ClassCastException e) {
+            throw new IOException("Saved game is damaged", e);
+        }
+    }
+
+    /**
+     * Writes a game state to a file, replacing anything already there.
+     *
+     * @param state The game state to save
+     * @param file The file to write to
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(GameState state, Path file) throws IOException {
+        write(encode(state), file);
+    }
+
+    /**
+     * Writes an encoded game state to a file, replacing anything already there.
+     * The state is written to a temporary file that is flushed to disk and then renamed over
+     * the old save, so a crash part way through leaves the previous save untouched.
+     *
+     * @param encoded The encoded game state, which is read from its position to its limit
+     * @param file The file to write to
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(ByteBuffer encoded, Path file) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer buffer = encoded.duplicate();
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        try {
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a game state from a file.
+     *
+     * @param file The file to read from
+     * @return The saved game state
+     * @throws IOException If the file cannot be read or is not a saved game
+     */
+    public static GameState read(Path file) throws IOException {
+        return decode(readFully(file));
+    }
+
+    /**
+     * Reads a whole file into a buffer.
+     *
+     * @param file The file to read
+     * @return A buffer holding the file's contents, ready to be read
+     * @throws IOException If the file cannot be read
+     */
+    static ByteBuffer readFully(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the whole file is in the buffer
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private static void writeInventory(Inventory inventory, ByteBuffer buffer) {
+        buffer.putInt(inventory.inventory);
+        for (int i = 0; i < inventory.inventory; i++) {
+            writeItem(inventory.items[i], buffer);
+        }
+    }
+
+    private static Inventory readInventory(ByteBuffer buffer) {
+        Inventory inventory = new Inventory();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            Item item = readItem(buffer);
+            if (item == null) {
+                throw new IllegalArgumentException("Missing inventory item");
+            }
+            inventory.restoreStack(item);
+        }
+        return inventory;
+    }
+
+    /**
+     * Writes an item, or a marker for no item, along with its type.
+     *
+     * @param item The item to write, which may be null
+     * @param buffer The buffer to write to
+     */
+    static void writeItem(Item item, ByteBuffer buffer) {
+        if (item == null) {
+            buffer.put((byte) -1);
+            return;
+        }
+        if (item instanceof Food) {
+            buffer.put(FOOD);
+        } else if (item instanceof Weapon) {
+            buffer.put(WEAPON);
+        } else if (item instanceof Medicine) {
+            buffer.put(MEDICINE);
+        } else {
+            buffer.put(ITEM);
+        }
+        item.writeState(buffer);
+    }
+
+    /**
+     * Reads an item written by writeItem.
+     *
+     * @param buffer The buffer to read from
+     * @return The item, or null if none was written
+     */
+    static Item readItem(ByteBuffer buffer) {
+        Item item;
+        byte type = buffer.get();
+        switch (type) {
+            case -1:
+                return null;
+            case FOOD:
+                item = new Food("", 0, 0);
+                break;
+            case WEAPON:
+                item = new Weapon("", 0, 0);
+                break;
+            case MEDICINE:
+                item = new Medicine("", 0, 0, 0);
+                break;
+            case ITEM:
+                item = new Item("");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown item type " + type);
+        }
+        item.readState(buffer);
+        return item;
+    }
+
+    /**
+     * Writes a string, which may be null, as its length followed by its UTF-8 bytes.
+     *
+     * @param text The string to write
+     * @param buffer The buffer to write to
+     */
+    static void putString(String text, ByteBuffer buffer) {
+        if (text == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length);
+        buffer.put(bytes);
+    }
+
+    /**
+     * Reads a string written by putString.
+     *
+     * @param buffer The buffer to read from
+     * @return The string, which may be null
+     */
+    static String getString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void putBoolean(boolean value, ByteBuffer buffer) {
+        buffer.put((byte) (value ? 1 : 0));
+    }
+
+    static boolean getBoolean(ByteBuffer buffer) {
+        return buffer.get() != 0;
+    }
+}
@@ -1,5 +1,7 @@
 package termProject;
 
+import java.util.function.Consumer;
+
 /**
  * Hunting Class of the Perils Along the Platte Game
  * Manages hunting mechanics to acquire food during the journey.
@@ -10,12 +12,11 @@ package termProject;
  * @date : 03/25/2025
  * @file : hunting.java
  */
-import java.util.Random;
-
 public class Hunting extends RandomEvent {
+        public static final String AMMUNITION = "Ammunition";
+        public static final String GAME_MEAT = "Game Meat";
 
         private Player player;
-        private Random random;
 
         /**
          * Constructor for the hunting system.
@@ -24,8 +25,18 @@ public class Hunting extends RandomEvent {
          * @param player The player object that will perform hunting actions
          */
         public Hunting(Player player) {
+            this(player, new GameRandom());
+        }
+
+        /**
+         * Constructor for a hunting system that draws from the given generator.
+         * 
+         * @param player The player object that will perform hunting actions
+         * @param random The random number generator for the game
+         */
+        public Hunting(Player player, GameRandom random) {
+            super(random);
             this.player = player;
-            this.random = new Random();
         }
 
         /**
@@ -34,16 +45,25 @@ public class Hunting extends RandomEvent {
          * Success depends on weapon type and random chance.
          */
         public void hunt() {
-            if (!player.getInventory().hasItem("weapon")) {
-                System.out.println("You have no weapon to hunt with.");
+            hunt(System.out::println);
+        }
+
+        /**
+         * Initiates a hunting session, reporting how it went to the given log.
+         * 
+         * @param log Receives the messages describing the hunt
+         */
+        public void hunt(Consumer<String> log) {
+            Item weapon = player.getInventory().getWeapon();
+            if (weapon == null) {
+                log.accept("You have no weapon to hunt with.");
                 return;
             }
 
-            Item weapon = player.getInventory().getItemInUse("weapon");
-            Item ammo = player.getInventory().getItemInUse("ammo");
+            Item ammo = player.getInventory().getItemInUse(AMMUNITION);
 
             if (ammo == null || player.getInventory().getItemQuantity(ammo) == 0) {
-                System.out.println("You have no ammunition left!");
+                log.accept("You have no ammunition left!");
                 return;
             }
 
@@ -55,11 +75,10 @@ public class Hunting extends RandomEvent {
 
             if (successfulHunt) {
                 int foodGained = random.nextInt(10) + 5; // Random amount of food
-                Item food = new Item("food");
-                player.getInventory().addItem(food, foodGained);
-                System.out.println("You successfully hunted and gained " + foodGained + " lbs of food!");
+                player.getInventory().addItem(new Food(GAME_MEAT, 1, 100, true), foodGained);
+                log.accept("You successfully hunted and gained " + foodGained + " lbs of food!");
             } else {
-                System.out.println("You missed! No food gained.");
+                log.accept("You missed! No food gained.");
             }
         }
 }
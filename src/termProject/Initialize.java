@@ -4,16 +4,17 @@ import javax.swing.*;
 
 public class Initialize
 {
-    public static void start()
+    public static GameContext start()
     {
-        initializeGameComponents();
+        GameContext context = new GameContext();
 
-        if(setupCharacter() && selectDepartureMonth() && selectTrail());
+        if(setupCharacter(context) && selectDepartureMonth(context) && selectTrail(context));
         else
             Main.main.logMessage("Failed to set up game.");
+        return context;
     }
 
-    public static boolean setupCharacter() {
+    public static boolean setupCharacter(GameContext context) {
         // Gender selection
         String[] genders = {"Male", "Female"};
         String selectedGender = (String) JOptionPane.showInputDialog(
@@ -37,14 +38,14 @@ public class Initialize
 
         if (name == null || name.trim().isEmpty()) return false;
 
-        Player.setGender(selectedGender.toLowerCase());
-        Player.setName(name);
-        Main.main.logMessage("Hello " + Player.name );
+        context.getPlayer().setGender(selectedGender.toLowerCase());
+        context.getPlayer().setName(name);
+        Main.main.logMessage("Hello " + context.getPlayer().getName() );
         return true;
 
     }
 
-    public static boolean selectDepartureMonth() {
+    public static boolean selectDepartureMonth(GameContext context) {
         String[] months = {"March", "April", "May", "June", "July"};
         String[] descriptions = {
                 "March: An early start, but you'll face muddy trails and swollen rivers.",
@@ -68,21 +69,23 @@ public class Initialize
 
         if (selectedMonth == null) return false;
 
+        int departureMonth = 0;
         for (int i = 0; i < descriptions.length; i++) {
             if (descriptions[i].equals(selectedMonth)) {
-                Time.monthNum = i;
+                departureMonth = i;
                 break;
             }
         }
+        context.getTime().setTime(1, departureMonth + Time.FIRST_DEPARTURE_MONTH);
 
         // Set weather based on month choice
        //todo currentWeather = new Weather(); // Weather constructor takes month as 3-7
 
-        Main.main.logMessage("Selected month: " + Time.monthName[Time.monthNum]);
+        Main.main.logMessage("Selected month: " + Time.monthName[departureMonth]);
         return true;
     }
 
-    public static boolean selectTrail() {
+    public static boolean selectTrail(GameContext context) {
         String[] trails = {
                 "Oregon Trail (2,170 miles) - Most popular route for farmers seeking fertile land",
                 "California Trail (1,950 miles) - Heavily traveled after the 1848 Gold Rush",
@@ -107,16 +110,14 @@ public class Initialize
         if (selectedTrail.startsWith("Oregon")) {
             trail = "Oregon";
             departureLocation = "Independence, Missouri";
-            GameMap.initializeOregonTrail();
         } else if (selectedTrail.startsWith("California")) {
             trail = "California";
             departureLocation = "Independence, Missouri";
-            GameMap.initializeCaliforniaTrail();
         } else {
             trail = "Mormon";
             departureLocation = "Nauvoo, Illinois";
-            GameMap.initializeMormonTrail();
         }
+        context.getGameMap().setTrail(trail, departureLocation);
 
         Main.main.logMessage("You have chosen to travel along the " + trail + " Trail.");
         Main.main.logMessage("Your journey will begin in " + departureLocation + ".");
@@ -125,18 +126,4 @@ public class Initialize
 
         return true;
     }
-
-    public static void initializeGameComponents()
-    {
-        // Initialize basic components
-        Main.currentPlayer = new Player("Player 1", "Male", 100);
-        Main.gameMap = new GameMap(0, 0);
-        Main.playerInventory = new Inventory();
-        Main.playerWagon = new Wagon();
-        Main.gameTime = new Time();
-        Main.playerMoney = new Currency(1600); // Standard starting money
-        Main.huntingSystem = new Hunting(Main.currentPlayer);
-
-        Main.currentPlayer.createInventory();
-    }
 }
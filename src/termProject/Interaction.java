@@ -13,6 +13,7 @@ package termProject;
 public class Interaction {
 
     private Player player;
+    private final GameRandom random;
 
     /**
      * Constructor for the interaction system.
@@ -20,7 +21,18 @@ public class Interaction {
      * @param player The player who will be interacting with NPCs
      */
     public Interaction(Player player) {
+        this(player, new GameRandom());
+    }
+
+    /**
+     * Constructor for an interaction system that draws from the given generator.
+     * 
+     * @param player The player who will be interacting with NPCs
+     * @param random The random number generator for the game
+     */
+    public Interaction(Player player, GameRandom random) {
         this.player = player;
+        this.random = random;
     }
 
     /**
@@ -95,7 +107,7 @@ public class Interaction {
     public void steal(Item item) {
         // Check success rate based on player attributes (e.g., a random chance)
         int successChance = 50; // Default success chance (can be increased based on player attributes)
-        if (Math.random() * 100 < successChance) {
+        if (random.nextInt(100) < successChance) {
             if (player.getInventory().hasItem(item.getName())) {
                 player.getInventory().removeItem(item, 1);
                 System.out.println("You successfully stole a " + item.getName() + ".");
@@ -139,11 +151,11 @@ public class Interaction {
                 "The land ahead is dangerous, be careful.",
                 "I'm willing to trade for some of your goods."
         };
-        int dialogueIndex = (int) (Math.random() * dialogues.length);
+        int dialogueIndex = random.nextInt(dialogues.length);
         System.out.println(npc.getName() + " says: " + dialogues[dialogueIndex]);
 
         // Example of a trade option when talking
-        if (Math.random() * 100 < 50) {
+        if (random.nextInt(100) < 50) {
             System.out.println("The NPC offers you a trade.");
         } else {
             System.out.println("The NPC does not offer anything this time.");
@@ -1,11 +1,18 @@
 package termProject;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Inventory Class of the Perils Along the Platte Game
  * Manages the collection of items that the player can carry and use.
  * Provides functionality for adding, removing, sorting, and using items.
+ * Items are kept packed at the front of the slot array with one stack per item name,
+ * and a map from name to slot finds any stack without searching. Food, weight and value
+ * totals are kept up to date as stacks change, so reading them never walks the slots.
  *
  * @author : Painter Drury, and Domenic Pilla
  * @version : 1.0
@@ -13,10 +20,16 @@ import java.util.ArrayList;
  * @ file : inventory.java
  */
 public class Inventory {
+    public static final int DAILY_RATION = 2; // food units each person eats a day
 
     int maxInventorySpace = 30;
     int inventory;
     Item[] items = new Item[maxInventorySpace];
+    private final Map<String, Integer> slotsByName = new HashMap<>();
+    private int foodAmount;
+    private int foodWeight;
+    private int totalWeight;
+    private int totalValue;
     Item itemInUse;
     Food foodInUse;
 	private Inventory playerInventory;
@@ -31,49 +44,69 @@ public class Inventory {
     
     /**
      * Adds an item to the inventory with the specified quantity.
-     * Attempts to stack items of the same type before using a new slot.
+     * Items with the same name as one already carried are added to that stack, up to the
+     * item's maximum quantity if it has one. Otherwise the item takes the next free slot.
      *
      * @param item The item to add to the inventory
      * @param quantity The quantity of the item to add
      */
     public void addItem(Item item, int quantity) {
-        if (inventory < maxInventorySpace) {
-            boolean itemAdded = false;
-
-            // Try to add to existing item stack or find an empty spot
-            for (int i = 0; i < inventory; i++) {
-                // Check if the item already exists or an empty spot is found
-                if (items[i] == null || items[i].getName().equals(item.getName())) {
-                    // Check if we can increase quantity of the current item
-                    if (items[i].getQuantity() + quantity <= items[i].getMaximumQuantity()) {
-                        items[i].setQuantity(items[i].getQuantity() + quantity);
-                        itemAdded = true;
-                        break;
-                    }
-                }
-            }
+        if (quantity <= 0) {
+            return;
+        }
 
-            // If item was not added, add it to the next available slot
-            if (!itemAdded) {
-                // Ensure there's room before trying to add a new item
-                if (inventory < maxInventorySpace) {
-                    for (int i = 0; i < maxInventorySpace; i++) {
-                        // Find the next empty slot
-                        if (items[i] == null) {
-                            items[i] = item;  // Add item to the empty slot
-                            inventory++;
-                            break;
-                        }
-                    }
-                } else {
-                    System.out.println("No more space in inventory.");
-                }
+        Integer slot = slotsByName.get(item.getName());
+        if (slot != null) {
+            Item stack = items[slot];
+            int added = Math.min(quantity, roomFor(stack, stack.getQuantity()));
+            stack.setQuantity(stack.getQuantity() + added);
+            if (added < quantity) {
+                System.out.println("You cannot carry any more " + item.getName() + ".");
             }
-        } else {
+            return;
+        }
+
+        if (inventory >= maxInventorySpace) {
             System.out.println("Your inventory is full. Drop an item if you want to pick this up.");
+            return;
+        }
+
+        int added = Math.min(quantity, roomFor(item, 0));
+        item.setInventory(null);
+        item.setQuantity(added);
+        addStack(item);
+        if (added < quantity) {
+            System.out.println("You cannot carry any more " + item.getName() + ".");
+        }
+    }
+
+    /**
+     * Puts a stack back into the next free slot exactly as it was saved, even if it is empty.
+     *
+     * @param item The saved stack
+     */
+    void restoreStack(Item item) {
+        if (inventory < maxInventorySpace && !slotsByName.containsKey(item.getName())) {
+            addStack(item);
         }
     }
 
+    private void addStack(Item item) {
+        item.setInventory(this);
+        items[inventory] = item;
+        slotsByName.put(item.getName(), inventory);
+        inventory++;
+        updateTotals(item, item.getQuantity());
+    }
+
+    // How many more of an item fit on a stack, where a maximum of 0 means no limit
+    private int roomFor(Item item, int carried) {
+        if (item.getMaximumQuantity() <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(0, item.getMaximumQuantity() - carried);
+    }
+
     /**
      * Removes a specified quantity of an item from the inventory.
      * If the quantity to remove exceeds the available quantity, the item is completely removed.
@@ -82,17 +115,51 @@ public class Inventory {
      * @param quantity The quantity to remove
      */
     public void removeItem(Item item, int quantity) {
-        for(int i = 0; i < inventory; i++){
-            if(items[i] == item){
-                if(items[i].getQuantity() > quantity){
-                    items[i].setQuantity(items[i].getQuantity() - quantity);
-                }
-                else{
-                    items[i] = null;
-                    inventory--;
-                }
-            }
+        Integer slot = slotsByName.get(item.getName());
+        if (slot == null) {
+            return;
+        }
+        if (items[slot].getQuantity() > quantity) {
+            items[slot].setQuantity(items[slot].getQuantity() - quantity);
+        } else {
+            removeSlot(slot);
+        }
+    }
+
+    // Empties a slot by moving the last occupied slot into it, keeping the items packed
+    private void removeSlot(int slot) {
+        Item removed = items[slot];
+        removed.setInventory(null);
+        updateTotals(removed, -removed.getQuantity());
+        slotsByName.remove(removed.getName());
+        inventory--;
+        if (slot != inventory) {
+            items[slot] = items[inventory];
+            slotsByName.put(items[slot].getName(), slot);
+        }
+        items[inventory] = null;
+    }
+
+    /**
+     * Updates the running totals after the quantity of a carried item changes.
+     * Called by the item itself, so changes made directly on a stack are counted too.
+     *
+     * @param item The item whose quantity changed
+     * @param previousQuantity The quantity before the change
+     */
+    void quantityChanged(Item item, int previousQuantity) {
+        updateTotals(item, item.getQuantity() - previousQuantity);
+    }
+
+    private void updateTotals(Item item, int change) {
+        if (item instanceof Food) {
+            foodAmount += change;
+        }
+        if (item.isConsumable()) {
+            foodWeight += item.getWeight() * change;
         }
+        totalWeight += item.getWeight() * change;
+        totalValue += item.getValue() * change;
     }
 
     /**
@@ -101,24 +168,26 @@ public class Inventory {
      *
      * @param item The item to use
      * @param quantity The quantity to use
+     * @param random The random number generator that decides whether the item has expired
      */
-    public void useItem(Item item, int quantity) {
-        for(int i = 0; i < inventory; i++){
-            if(items[i].isPerishable()) {
-                if (!items[i].isExpired()) {
-                    if (items[i] == item) {
-                        itemInUse = item;
-                        items[i].setQuantity(items[i].getQuantity() - 1);
-                    }
-                } else {
-                    removeItem(item, quantity);
-                }
+    public void useItem(Item item, int quantity, GameRandom random) {
+        Integer slot = slotsByName.get(item.getName());
+        if (slot == null) {
+            return;
+        }
+        Item stack = items[slot];
+        if (stack.isPerishable()) {
+            if (!stack.isExpired(random)) {
+                itemInUse = stack;
+                removeItem(stack, 1);
+            } else {
+                removeItem(stack, quantity);
             }
-            //Should subtract one ammo after gun shot
-            //if(items[i].isUsable()){
-              //  items[i].getName(items[i].setAmmo((items[i].getAmmo())));
-            //}
         }
+        //Should subtract one ammo after gun shot
+        //if(stack.isUsable()){
+          //  stack.getName(stack.setAmmo((stack.getAmmo())));
+        //}
     }
 
     /**
@@ -148,18 +217,9 @@ public class Inventory {
      * Sorts the inventory alphabetically by item name.
      */
     public void sortInventory() {
-        for(int i = 0; i < inventory; i++){
-            if(items[i] != null){
-                for(int j = i; j < inventory; j++){
-                    if(items[j] != null){
-                        if(items[i].getName().compareTo(items[j].getName()) > 0){
-                            Item temp = items[i];
-                            items[i] = items[j];
-                            items[j] = temp;
-                        }
-                    }
-                }
-            }
+        Arrays.sort(items, 0, inventory, Comparator.comparing(Item::getName));
+        for (int i = 0; i < inventory; i++) {
+            slotsByName.put(items[i].getName(), i);
         }
     }
 
@@ -179,11 +239,21 @@ public class Inventory {
      * @return The item if found, null otherwise
      */
     public Item getItemInUse(String itemName) {
-        for(int i = 0; i < inventory; i++){
-            if(items[i] != null){
-                if(items[i].getName().equals(itemName)){
-                    return items[i];
-                }
+        Integer slot = slotsByName.get(itemName);
+        return slot != null ? items[slot] : null;
+    }
+
+    /**
+     * Finds a weapon that can be hunted with.
+     * Ammunition is sold as a weapon but cannot be fired on its own, so it is never returned.
+     *
+     * @return The first weapon carried, or null if there is none
+     */
+    public Item getWeapon() {
+        for (int i = 0; i < inventory; i++) {
+            Item item = items[i];
+            if ((item instanceof Weapon || item.isWeapon()) && !item.getName().equals(Hunting.AMMUNITION)) {
+                return item;
             }
         }
         return null;
@@ -229,31 +299,33 @@ public class Inventory {
     }
 
     /**
-     * Calculates the total amount of food items in the inventory.
+     * Eats one day of rations, taking from each food stack in turn until the party has
+     * eaten its fill or the food runs out.
      *
-     * @return The total quantity of food items
+     * @param partySize The number of people eating
+     * @return The amount of food eaten, which is less than a full day's rations if food ran short
      */
-    public void consumeDailyRations(int partySize) {
-        int dailyConsumption = partySize * 2; // 2 food units per person
-        for (Item item : items) {
+    public int consumeDailyRations(int partySize) {
+        int dailyConsumption = partySize * DAILY_RATION;
+        int eaten = 0;
+        for (int i = 0; i < inventory && eaten < dailyConsumption; i++) {
+            Item item = items[i];
             if (item instanceof Food) {
-                int currentAmount = item.getQuantity();
-                if (currentAmount >= dailyConsumption) {
-                    item.setQuantity(currentAmount - dailyConsumption);
-                    return;
-                }
+                int portion = Math.min(item.getQuantity(), dailyConsumption - eaten);
+                item.setQuantity(item.getQuantity() - portion);
+                eaten += portion;
             }
         }
+        return eaten;
     }
 
+    /**
+     * Gets the total amount of food items in the inventory.
+     *
+     * @return The total quantity of food items
+     */
     public int getFoodAmount() {
-        int totalFood = 0;
-        for (Item item : items) {
-            if (item instanceof Food) {
-                totalFood += item.getQuantity();
-            }
-        }
-        return totalFood;
+        return foodAmount;
     }
 
     /**
@@ -262,15 +334,45 @@ public class Inventory {
      * @return The total weight of all food items
      */
     public int getTotalFoodWeight(){
-        int totalFoodWeight = 0;
-        for(int i = 0; i < inventory; i++){
-            if(items[i] != null){
-                if(items[i].isConsumable()){
-                    totalFoodWeight += items[i].getWeight() * items[i].getQuantity();
-                }
-            }
-        }
-        return totalFoodWeight;
+        return foodWeight;
+    }
+
+    /**
+     * Gets the total weight of everything in the inventory.
+     *
+     * @return The total weight in pounds
+     */
+    public int getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Gets the total value of everything in the inventory.
+     *
+     * @return The total value in dollars
+     */
+    public int getTotalValue() {
+        return totalValue;
+    }
+
+    /**
+     * Gets how much more weight a wagon can carry on top of this inventory.
+     *
+     * @param wagon The wagon carrying the inventory
+     * @return The spare capacity in pounds, negative if the wagon is overloaded
+     */
+    public int getRemainingCapacity(Wagon wagon) {
+        return wagon.getCapacity() - totalWeight;
+    }
+
+    /**
+     * Checks if this inventory weighs more than a wagon can carry.
+     *
+     * @param wagon The wagon carrying the inventory
+     * @return true if the inventory is over the wagon's capacity, false otherwise
+     */
+    public boolean isOverCapacity(Wagon wagon) {
+        return totalWeight > wagon.getCapacity();
     }
 
     /**
@@ -280,16 +382,13 @@ public class Inventory {
      * @param amount The amount of food to consume
      */
     public void consumeFood(int amount) {
-        for(int i = 0; i < inventory; i++){
-            if(items[i] != null){
-                if(items[i].isConsumable()){
-                    if(items[i].getQuantity() > amount){
-                        items[i].setQuantity(items[i].getQuantity() - amount);
-                    }
-                    else{
-                        items[i] = null;
-                        inventory--;
-                    }
+        // Walk backwards so emptied slots are refilled from slots already visited
+        for (int i = inventory - 1; i >= 0; i--) {
+            if (items[i].isConsumable()) {
+                if (items[i].getQuantity() > amount) {
+                    items[i].setQuantity(items[i].getQuantity() - amount);
+                } else {
+                    removeSlot(i);
                 }
             }
         }
@@ -302,14 +401,7 @@ public class Inventory {
      * @return true if the item exists in the inventory, false otherwise
      */
     public boolean hasItem(String itemName) {
-        for(int i = 0; i < inventory; i++){
-            if(items[i] != null){
-                if(items[i].getName().equals(itemName)){
-                    return true;
-                }
-            }
-        }
-        return false;
+        return slotsByName.containsKey(itemName);
     }
 
     /**
@@ -319,34 +411,28 @@ public class Inventory {
      * @return The quantity of the specified item
      */
     public int getItemQuantity(Item item){
-        for(int i = 0; i < inventory; i++){
-            if(items[i] != null){
-                if(items[i].getName().equals(item.getName())){
-                    return items[i].getQuantity();
-                }
-            }
-        }
-        return 0;
+        Item stack = getItemInUse(item.getName());
+        return stack != null ? stack.getQuantity() : 0;
     }
 
-    public void damageRandomItem() {
+    public void damageRandomItem(GameRandom random) {
         if (inventory > 0) {
-            int randomIndex = (int)(Math.random() * inventory);
+            int randomIndex = random.nextInt(inventory);
             if (items[randomIndex] != null) {
                 items[randomIndex].setQuantity(items[randomIndex].getQuantity() - 1);
             }
         }
     }
 
-    public void addRandomSupplies() {
+    public void addRandomSupplies(GameRandom random) {
         String[] possibleItems = {"food", "ammunition", "medicine", "spare parts"};
-        String randomItem = possibleItems[(int)(Math.random() * possibleItems.length)];
-        addItem(new Item(randomItem), 1 + (int)(Math.random() * 5));
+        String randomItem = possibleItems[random.nextInt(possibleItems.length)];
+        addItem(new Item(randomItem), 1 + random.nextInt(5));
     }
 
-    public void loseRandomSupplies() {
+    public void loseRandomSupplies(GameRandom random) {
         if (inventory > 0) {
-            int randomIndex = (int)(Math.random() * inventory);
+            int randomIndex = random.nextInt(inventory);
             if (items[randomIndex] != null) {
                 removeItem(items[randomIndex], 1);
             }
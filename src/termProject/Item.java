@@ -1,5 +1,7 @@
 package termProject;
 
+import java.nio.ByteBuffer;
+
 /**
  * Item Class of the Perils Along the Platte Game
  * Base class for all in-game items including food, weapons, tools, and supplies.
@@ -22,6 +24,7 @@ public class Item {
     private boolean isUsable;
     private boolean isWeapon;
     private boolean isWagonPart;
+    private Inventory inventory;
 
     /**
      * Full constructor for creating an item with all properties specified.
@@ -144,12 +147,13 @@ public class Item {
 
     /**
      * Checks if a perishable item has expired.
-     * Uses random chance to determine expiration.
+     * Only food spoils, so a plain item never has.
      * 
+     * @param random The random number generator for the game
      * @return true if the item has expired, false otherwise
      */
-    public boolean isExpired() {
-        return Math.random() * 1 + 10 < 5;
+    public boolean isExpired(GameRandom random) {
+        return false;
     }
 
     /**
@@ -203,7 +207,11 @@ public class Item {
      * @param quantity The new quantity value
      */
     public void setQuantity(int quantity) {
+        int previousQuantity = this.quantity;
         this.quantity = quantity;
+        if (inventory != null) {
+            inventory.quantityChanged(this, previousQuantity);
+        }
     }
 
     /**
@@ -215,13 +223,22 @@ public class Item {
         this.maximumQuantity = maximumQuantity;
     }
 
+    /**
+     * Sets the inventory this item is carried in, which is told whenever the quantity changes.
+     *
+     * @param inventory The inventory holding the item, or null if it is not carried
+     */
+    void setInventory(Inventory inventory) {
+        this.inventory = inventory;
+    }
+
     /**
      * Increases the quantity of the item by the specified amount.
      * 
      * @param amount The amount to increase by
      */
     public void increaseQuantity(int amount) {
-        this.quantity += amount;
+        setQuantity(quantity + amount);
     }
 
     /**
@@ -231,10 +248,7 @@ public class Item {
      * @param amount The amount to decrease by
      */
     public void decreaseQuantity(int amount) {
-        this.quantity -= amount;
-        if (this.quantity < 0) {
-            this.quantity = 0;
-        }
+        setQuantity(Math.max(quantity - amount, 0));
     }
 
     /**
@@ -286,4 +300,42 @@ public class Item {
 	public int getPrice() {
 		return value;
 	}
-}
\ No newline at end of file
+
+    /**
+     * Writes this item's fields for a saved game.
+     *
+     * @param buffer The buffer to write to
+     */
+    void writeState(ByteBuffer buffer) {
+        GameStateCodec.putString(name, buffer);
+        buffer.putInt(weight);
+        buffer.putInt(quantity);
+        buffer.putInt(value);
+        buffer.putInt(maximumQuantity);
+        GameStateCodec.putBoolean(isPerishable, buffer);
+        GameStateCodec.putBoolean(isDrinkable, buffer);
+        GameStateCodec.putBoolean(isConsumable, buffer);
+        GameStateCodec.putBoolean(isUsable, buffer);
+        GameStateCodec.putBoolean(isWeapon, buffer);
+        GameStateCodec.putBoolean(isWagonPart, buffer);
+    }
+
+    /**
+     * Reads this item's fields from a saved game.
+     *
+     * @param buffer The buffer to read from
+     */
+    void readState(ByteBuffer buffer) {
+        name = GameStateCodec.getString(buffer);
+        weight = buffer.getInt();
+        quantity = buffer.getInt();
+        value = buffer.getInt();
+        maximumQuantity = buffer.getInt();
+        isPerishable = GameStateCodec.getBoolean(buffer);
+        isDrinkable = GameStateCodec.getBoolean(buffer);
+        isConsumable = GameStateCodec.getBoolean(buffer);
+        isUsable = GameStateCodec.getBoolean(buffer);
+        isWeapon = GameStateCodec.getBoolean(buffer);
+        isWagonPart = GameStateCodec.getBoolean(buffer);
+    }
+}
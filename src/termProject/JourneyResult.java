@@ -0,0 +1,114 @@
+package termProject;
+
+/**
+ * JourneyResult Class of the Perils Along the Platte Game
+ * Records the outcome of a single journey along the trail.
+ * Holds whether the party survived, how it ended, and what was left at the end.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : journeyResult.java
+ */
+public class JourneyResult {
+    private final long seed;
+    private final String trailType;
+    private final int departureMonth;
+    private final boolean arrived;
+    private final String causeOfDeath;
+    private final int daysTraveled;
+    private final String endDate;
+    private final int distanceTraveled;
+    private final int foodLeft;
+    private final int moneyLeft;
+
+    /**
+     * Constructor for a journey result with all attributes.
+     *
+     * @param seed The seed that replays this journey
+     * @param trailType The trail that was traveled
+     * @param departureMonth The departure month index into Time.monthName
+     * @param arrived Whether the party reached the end of the trail
+     * @param causeOfDeath Why the journey ended early, or null if it did not
+     * @param daysTraveled The number of days the journey lasted
+     * @param endDate The date the journey ended
+     * @param distanceTraveled The miles covered along the trail
+     * @param foodLeft The pounds of food left at the end
+     * @param moneyLeft The money left at the end
+     */
+    public JourneyResult(long seed, String trailType, int departureMonth, boolean arrived, String causeOfDeath,
+                         int daysTraveled, String endDate, int distanceTraveled, int foodLeft, int moneyLeft) {
+        this.seed = seed;
+        this.trailType = trailType;
+        this.departureMonth = departureMonth;
+        this.arrived = arrived;
+        this.causeOfDeath = causeOfDeath;
+        this.daysTraveled = daysTraveled;
+        this.endDate = endDate;
+        this.distanceTraveled = distanceTraveled;
+        this.foodLeft = foodLeft;
+        this.moneyLeft = moneyLeft;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getTrailType() {
+        return trailType;
+    }
+
+    public int getDepartureMonth() {
+        return departureMonth;
+    }
+
+    /**
+     * Checks if the party reached the end of the trail.
+     *
+     * @return true if the journey was completed, false otherwise
+     */
+    public boolean hasArrived() {
+        return arrived;
+    }
+
+    /**
+     * Gets the reason the journey ended early.
+     *
+     * @return The cause of death or null if the party arrived
+     */
+    public String getCauseOfDeath() {
+        return causeOfDeath;
+    }
+
+    public int getDaysTraveled() {
+        return daysTraveled;
+    }
+
+    public String getEndDate() {
+        return endDate;
+    }
+
+    public int getDistanceTraveled() {
+        return distanceTraveled;
+    }
+
+    public int getFoodLeft() {
+        return foodLeft;
+    }
+
+    public int getMoneyLeft() {
+        return moneyLeft;
+    }
+
+    /**
+     * Returns a string representation of the journey result.
+     *
+     * @return A string describing how the journey ended
+     */
+    public String toString() {
+        if (arrived) {
+            return "Arrived on the " + trailType + " Trail on " + endDate + " after " + daysTraveled + " days";
+        }
+        return "Died of " + causeOfDeath + " on the " + trailType + " Trail on " + endDate + " after " + distanceTraveled + " miles";
+    }
+}
@@ -0,0 +1,136 @@
+package termProject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JourneyStatistics Class of the Perils Along the Platte Game
+ * Summarizes the outcomes of many simulated journeys.
+ * Statistics gathered separately can be merged, so journeys can be run in parallel.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : journeyStatistics.java
+ */
+public class JourneyStatistics {
+    private long journeys;
+    private long arrivals;
+    private long totalArrivalDays;
+    private int fastestArrival = Integer.MAX_VALUE;
+    private int slowestArrival;
+    private long totalFoodLeft;
+    private long totalMoneyLeft;
+    private final Map<String, Long> causesOfDeath = new HashMap<>();
+
+    /**
+     * Adds the outcome of one journey to the statistics.
+     *
+     * @param result The journey result to record
+     */
+    public void add(JourneyResult result) {
+        journeys++;
+        if (result.hasArrived()) {
+            arrivals++;
+            totalArrivalDays += result.getDaysTraveled();
+            fastestArrival = Math.min(fastestArrival, result.getDaysTraveled());
+            slowestArrival = Math.max(slowestArrival, result.getDaysTraveled());
+            totalFoodLeft += result.getFoodLeft();
+            totalMoneyLeft += result.getMoneyLeft();
+        } else {
+            causesOfDeath.merge(result.getCauseOfDeath(), 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Combines another set of statistics into this one.
+     *
+     * @param other The statistics to merge in
+     * @return This statistics object, now including the other's journeys
+     */
+    public JourneyStatistics merge(JourneyStatistics other) {
+        journeys += other.journeys;
+        arrivals += other.arrivals;
+        totalArrivalDays += other.totalArrivalDays;
+        fastestArrival = Math.min(fastestArrival, other.fastestArrival);
+        slowestArrival = Math.max(slowestArrival, other.slowestArrival);
+        totalFoodLeft += other.totalFoodLeft;
+        totalMoneyLeft += other.totalMoneyLeft;
+        for (Map.Entry<String, Long> cause : other.causesOfDeath.entrySet()) {
+            causesOfDeath.merge(cause.getKey(), cause.getValue(), Long::sum);
+        }
+        return this;
+    }
+
+    public long getJourneys() {
+        return journeys;
+    }
+
+    public long getArrivals() {
+        return arrivals;
+    }
+
+    /**
+     * Gets the fraction of journeys that reached the end of the trail.
+     *
+     * @return The survival rate between 0 and 1
+     */
+    public double getSurvivalRate() {
+        return journeys == 0 ? 0 : (double) arrivals / journeys;
+    }
+
+    /**
+     * Gets the average length of the journeys that arrived.
+     *
+     * @return The average number of days, or 0 if nobody arrived
+     */
+    public double getAverageArrivalDays() {
+        return arrivals == 0 ? 0 : (double) totalArrivalDays / arrivals;
+    }
+
+    public int getFastestArrival() {
+        return arrivals == 0 ? 0 : fastestArrival;
+    }
+
+    public int getSlowestArrival() {
+        return slowestArrival;
+    }
+
+    /**
+     * Gets the average food left by the parties that arrived.
+     *
+     * @return The average pounds of food left
+     */
+    public double getAverageFoodLeft() {
+        return arrivals == 0 ? 0 : (double) totalFoodLeft / arrivals;
+    }
+
+    /**
+     * Gets the average money left by the parties that arrived.
+     *
+     * @return The average money left
+     */
+    public double getAverageMoneyLeft() {
+        return arrivals == 0 ? 0 : (double) totalMoneyLeft / arrivals;
+    }
+
+    /**
+     * Gets how many journeys ended from each cause of death.
+     *
+     * @return A map from cause of death to the number of journeys it ended
+     */
+    public Map<String, Long> getCausesOfDeath() {
+        return causesOfDeath;
+    }
+
+    /**
+     * Returns a string summary of the statistics.
+     *
+     * @return A string describing survival, arrival times and causes of death
+     */
+    public String toString() {
+        return String.format("%d journeys, %.1f%% survived, %.1f days on average (%d-%d), %.1f lbs food and $%.2f left, deaths: %s",
+                journeys, getSurvivalRate() * 100, getAverageArrivalDays(), getFastestArrival(), getSlowestArrival(),
+                getAverageFoodLeft(), getAverageMoneyLeft(), causesOfDeath);
+    }
+}
@@ -10,15 +10,16 @@ package termProject;
  * @ date : 03/25/2025
  * @ file : landmark.java
  */
-public class Landmark extends GameMap {
-    private String name;
-    private int distance;
-    private String description;
-    private String historicalInfo;
-    private boolean hasRiver;
-    private boolean isTradePost;
-    private int x;
-    private int y;
+public class Landmark {
+    private final String name;
+    private final int distance;
+    private final TrailText description;
+    private final TrailText historicalInfo;
+    private final boolean hasRiver;
+    private final boolean isTradePost;
+    private final int x;
+    private final int y;
+    private final Climate climate;
 
     /**
      * Constructor for creating a landmark with all attributes.
@@ -33,13 +34,48 @@ public class Landmark extends GameMap {
      * @param isTradePost Whether this landmark is a trading post
      */
     public Landmark(String name, int positionX, int positionY, int distance, String description, String historicalInfo, boolean hasRiver, boolean isTradePost) {
-        super(positionX, positionY);
+        this(name, positionX, positionY, distance, TrailText.of(description), TrailText.of(historicalInfo), hasRiver, isTradePost);
+    }
+
+    /**
+     * Constructor for creating a landmark whose text is decoded only when it is read.
+     * 
+     * @param name The name of the landmark
+     * @param positionX The X-coordinate of the landmark on the map
+     * @param positionY The Y-coordinate of the landmark on the map
+     * @param distance The distance from the starting point in miles
+     * @param description Brief description of the landmark
+     * @param historicalInfo Historical information about the landmark
+     * @param hasRiver Whether there's a river at this landmark
+     * @param isTradePost Whether this landmark is a trading post
+     */
+    public Landmark(String name, int positionX, int positionY, int distance, TrailText description, TrailText historicalInfo, boolean hasRiver, boolean isTradePost) {
+        this(name, positionX, positionY, distance, description, historicalInfo, hasRiver, isTradePost, null);
+    }
+
+    /**
+     * Constructor for creating a landmark that begins a new climate region along the trail.
+     * 
+     * @param name The name of the landmark
+     * @param positionX The X-coordinate of the landmark on the map
+     * @param positionY The Y-coordinate of the landmark on the map
+     * @param distance The distance from the starting point in miles
+     * @param description Brief description of the landmark
+     * @param historicalInfo Historical information about the landmark
+     * @param hasRiver Whether there's a river at this landmark
+     * @param isTradePost Whether this landmark is a trading post
+     * @param climate The climate from this landmark on, or null if it does not change here
+     */
+    public Landmark(String name, int positionX, int positionY, int distance, TrailText description, TrailText historicalInfo, boolean hasRiver, boolean isTradePost, Climate climate) {
+        this.x = positionX;
+        this.y = positionY;
         this.name = name;
         this.distance = distance;
         this.description = description;
         this.historicalInfo = historicalInfo;
         this.hasRiver = hasRiver;
         this.isTradePost = isTradePost;
+        this.climate = climate;
     }
 
     /**
@@ -66,7 +102,7 @@ public class Landmark extends GameMap {
      * @return The landmark description
      */
     public String getDescription() {
-        return description;
+        return description.get();
     }
 
     /**
@@ -75,7 +111,7 @@ public class Landmark extends GameMap {
      * @return The historical information text
      */
     public String getHistoricalInfo() {
-        return historicalInfo;
+        return historicalInfo.get();
     }
 
     /**
@@ -104,6 +140,15 @@ public class Landmark extends GameMap {
     	return y;
     }
     
+    /**
+     * Gets the climate of the trail from this landmark on to the next one that changes it.
+     * 
+     * @return The climate, or null if the trail keeps the climate it had before this landmark
+     */
+    public Climate getClimate() {
+        return climate;
+    }
+
     /**
      * Gets the position of the landmark on the map.
      * 
@@ -0,0 +1,231 @@
+package termProject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * LandmarkIndex Class of the Perils Along the Platte Game
+ * An unchangeable view of a trail's landmarks sorted by distance from the start.
+ * Answers "which landmark is here, next or behind me" with a binary search,
+ * and keeps the trade posts and river crossings in their own lists.
+ * The climate of every mile of the trail is laid out in a table, so finding the climate
+ * the wagon is in takes the same time however many landmarks the trail has. Landmarks can be
+ * at most MAX_DISTANCE miles along the trail, which keeps the table small.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : landmarkIndex.java
+ */
+public class LandmarkIndex {
+    public static final int MAX_DISTANCE = 10000; // miles; the longest historic trails were near 2,000
+    private final Landmark[] landmarks;
+    private final List<Landmark> landmarkList;
+    private final int[] distances;
+    private final List<Landmark> tradePosts;
+    private final List<Landmark> rivers;
+    private final Map<Long, Landmark> tradePostsByPosition = new HashMap<>();
+
+    // The ordinal of the climate at each mile, up to the last landmark
+    private static final Climate DEFAULT_CLIMATE = Climate.PLAINS;
+    private static final Climate[] CLIMATES = Climate.values();
+    private final byte[] climateByMile;
+
+    /**
+     * Constructor that indexes the given landmarks.
+     * Landmarks at the same distance keep the order they were given in.
+     *
+     * @param trail The landmarks along the trail, in any order
+     * @throws IllegalArgumentException If a landmark is more than MAX_DISTANCE miles along the trail
+     */
+    public LandmarkIndex(List<Landmark> trail) {
+        landmarks = trail.toArray(new Landmark[0]);
+        Arrays.sort(landmarks, Comparator.comparingInt(Landmark::getDistance));
+        landmarkList = Collections.unmodifiableList(Arrays.asList(landmarks));
+
+        distances = new int[landmarks.length];
+        List<Landmark> tradePostList = new ArrayList<>();
+        List<Landmark> riverList = new ArrayList<>();
+        for (int i = 0; i < landmarks.length; i++) {
+            Landmark landmark = landmarks[i];
+            if (landmark.getDistance() > MAX_DISTANCE) {
+                throw new IllegalArgumentException(landmark.getName() + " is " + landmark.getDistance()
+                        + " miles along the trail, more than " + MAX_DISTANCE);
+            }
+            distances[i] = landmark.getDistance();
+            if (landmark.isTradePost()) {
+                tradePostList.add(landmark);
+                tradePostsByPosition.putIfAbsent(positionKey(landmark.getX(), landmark.getY()), landmark);
+            }
+            if (landmark.hasRiver()) {
+                riverList.add(landmark);
+            }
+        }
+        tradePosts = Collections.unmodifiableList(tradePostList);
+        rivers = Collections.unmodifiableList(riverList);
+
+        int miles = landmarks.length == 0 ? 0 : Math.max(distances[landmarks.length - 1], 0);
+        climateByMile = new byte[miles + 1];
+        Climate climate = DEFAULT_CLIMATE;
+        int mile = 0;
+        for (Landmark landmark : landmarks) {
+            int start = Math.max(landmark.getDistance(), 0);
+            Arrays.fill(climateByMile, mile, Math.max(start, mile), (byte) climate.ordinal());
+            mile = Math.max(start, mile);
+            if (landmark.getClimate() != null) {
+                climate = landmark.getClimate();
+            }
+        }
+        Arrays.fill(climateByMile, mile, climateByMile.length, (byte) climate.ordinal());
+    }
+
+    /**
+     * Gets the number of landmarks on the trail.
+     *
+     * @return The landmark count
+     */
+    public int size() {
+        return landmarks.length;
+    }
+
+    /**
+     * Gets the landmark at a position in distance order.
+     *
+     * @param index The position of the landmark, starting at 0 for the trail head
+     * @return The landmark or null if the index is out of range
+     */
+    public Landmark get(int index) {
+        if (index >= 0 && index < landmarks.length) {
+            return landmarks[index];
+        }
+        return null;
+    }
+
+    /**
+     * Gets all landmarks in distance order.
+     *
+     * @return An unmodifiable list of the landmarks
+     */
+    public List<Landmark> getLandmarks() {
+        return landmarkList;
+    }
+
+    /**
+     * Finds the last landmark at or before a distance along the trail.
+     *
+     * @param distance The distance from the start in miles
+     * @return The index of that landmark, or -1 if the distance is before the first landmark
+     */
+    public int indexAtOrBefore(int distance) {
+        return firstIndexAfter(distance) - 1;
+    }
+
+    /**
+     * Gets the landmark most recently passed at a distance along the trail.
+     *
+     * @param distance The distance from the start in miles
+     * @return The current landmark or null if none has been reached
+     */
+    public Landmark current(int distance) {
+        return get(indexAtOrBefore(distance));
+    }
+
+    /**
+     * Gets the first landmark still ahead at a distance along the trail.
+     *
+     * @param distance The distance from the start in miles
+     * @return The next landmark or null if every landmark has been passed
+     */
+    public Landmark next(int distance) {
+        return get(firstIndexAfter(distance));
+    }
+
+    /**
+     * Gets the landmark passed before the current one.
+     *
+     * @param distance The distance from the start in miles
+     * @return The previous landmark or null if there is none
+     */
+    public Landmark previous(int distance) {
+        return get(indexAtOrBefore(distance) - 1);
+    }
+
+    /**
+     * Gets the first landmark within a window of a distance along the trail.
+     *
+     * @param distance The distance from the start in miles
+     * @param window How close, in miles, a landmark must be to count
+     * @return The nearest landmark in trail order, or null if none is close enough
+     */
+    public Landmark near(int distance, int window) {
+        Landmark candidate = get(firstIndexAfter(distance - window));
+        if (candidate != null && candidate.getDistance() < distance + window) {
+            return candidate;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the climate at a distance along the trail.
+     * Each landmark can start a new climate, which lasts until a later landmark changes it.
+     *
+     * @param distance The distance from the start in miles
+     * @return The climate there, which past the last landmark is the climate it started
+     */
+    public Climate climateAt(int distance) {
+        return CLIMATES[climateByMile[Math.min(Math.max(distance, 0), climateByMile.length - 1)]];
+    }
+
+    /**
+     * Gets the trade posts on the trail in distance order.
+     *
+     * @return An unmodifiable list of the trade posts
+     */
+    public List<Landmark> getTradePosts() {
+        return tradePosts;
+    }
+
+    /**
+     * Gets the river crossings on the trail in distance order.
+     *
+     * @return An unmodifiable list of the landmarks with rivers
+     */
+    public List<Landmark> getRivers() {
+        return rivers;
+    }
+
+    /**
+     * Gets the trade post at a map position.
+     *
+     * @param x The X-coordinate on the map
+     * @param y The Y-coordinate on the map
+     * @return The trade post there or null if there is none
+     */
+    public Landmark tradePostAt(int x, int y) {
+        return tradePostsByPosition.get(positionKey(x, y));
+    }
+
+    // Index of the first landmark strictly beyond the distance
+    private int firstIndexAfter(int distance) {
+        int low = 0;
+        int high = distances.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (distances[middle] <= distance) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static long positionKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+}
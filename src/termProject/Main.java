@@ -4,6 +4,7 @@ import javax.swing.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.BorderLayout;
+import java.util.concurrent.ScheduledFuture;
 
 
 public class Main {
@@ -12,22 +13,25 @@ public class Main {
     private JPanel mainWindow;
     private JButton moveButton, huntButton, restButton, tradeButton, statusButton, historyButton, saveButton, quitButton;
     private JTextArea gameLog;
+    private GameLog log;
 
     private MapPanel gameMapPanel;
     private JPanel map;
 
     private static JFrame frame;
 
-    public static Player currentPlayer;
-    public static GameMap gameMap;
-    public static Inventory playerInventory;
-    public static Wagon playerWagon;
-    public static Time gameTime;
+    // Only changed on the game loop thread once the game has started
+    private volatile GameContext context;
+    private final GameLoop gameLoop = new GameLoop(this::showSnapshot);
+    private final SaveWriter saveWriter = new SaveWriter(message -> logMessage(message));
+    private final SaveStore saveStore = new SaveStore(SaveGame.SAVE_DIRECTORY);
+    private SaveJournal autosaveJournal;
 
-
-    public static Weather currentWeather;
-    public static Currency playerMoney;
-    public static Hunting huntingSystem;
+    // Continuous travel, only used on the game loop thread
+    private static final int TRAVEL_FRAME_MS = 16;
+    private TravelClock travelClock;
+    private ScheduledFuture<?> travel;
+    private long lastTravelFrame;
 
 
     private boolean gameStarted = false;
@@ -40,6 +44,7 @@ public class Main {
     {
         setUpBtn();
         gameLog.setOpaque(false);
+        log = new GameLog(gameLog);
         map.setVisible(false);
         frame.pack();
 
@@ -48,7 +53,7 @@ public class Main {
         moveButton.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                if(gameMap == null) { logMessage("gameMap is null");}
+                if(context == null) { logMessage("gameMap is null");}
                 else
                 {
                     handleMove();
@@ -59,6 +64,16 @@ public class Main {
                 }
             }
         });
+
+        saveButton.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (context != null) {
+                    gameLoop.execute(game -> saveWriter.save(saveStore,
+                            SaveStore.playerSlot(game.getPlayer().getName()), currentState()));
+                }
+            }
+        });
     }
 
     public static void main(String[] args) {
@@ -70,29 +85,41 @@ public class Main {
         frame.setVisible(true);
         frame.setLocationRelativeTo(null);
 
-       Initialize.start();
+       Runtime.getRuntime().addShutdownHook(new Thread(main.saveWriter::close));
+       main.startGame();
+    }
+
+    private void startGame() {
+        // The setup dialogs are shown on the Event Dispatch Thread, then the game loop takes over the game
+        context = gameLoop.ask(Initialize::start);
+        autosaveJournal = new SaveJournal(SaveGame.AUTOSAVE_FILE);
+        travelClock = null;
+        gameLoop.start(context);
+    }
+
+    private void showSnapshot(GameSnapshot snapshot) {
+        gameMapPanel.updatePlayer(snapshot);
     }
 
 
 
     private void initializeGameWithChoices() {
         // Add initial inventory (similar to startGame's initialization)
-        playerInventory.addItem(new Food("Rations", 1, 100), 50);
-        playerInventory.addItem(new Weapon("Rifle", 5), 1);
-        playerInventory.addItem(new Item("Ammunition", 1), 50);
-        playerInventory.addItem(new Medicine("Medicine", 1, 5, 1), 3);
+        context.getInventory().addItem(new Food("Rations", 1, 100), 50);
+        context.getInventory().addItem(new Weapon("Rifle", 5), 1);
+        context.getInventory().addItem(new Item("Ammunition", 1), 50);
+        context.getInventory().addItem(new Medicine("Medicine", 1, 5, 5), 3);
 
         // Set total trail distance from map
-        totalTrailDistance = gameMap.getTotalDistance();
+        totalTrailDistance = context.getGameMap().getTotalDistance();
     }
 
     public void logMessage(String message) {
-        gameLog.append(message + "\n");
-        gameLog.setCaretPosition(gameLog.getDocument().getLength());
+        log.append(message);
     }
 
     private void handleMove() {
-        String[] directions = {"North", "South", "East", "West"};
+        String[] directions = {"Along the trail", "North", "South", "East", "West"};
         String direction = (String) JOptionPane.showInputDialog(
                 mainWindow,
                 "Choose direction:",
@@ -102,91 +129,137 @@ public class Main {
                 directions,
                 directions[0]);
 
-        if (direction != null) {
+        if (direction != null && direction.equals(directions[0])) {
+            String[] speeds = {"Stop", "1x", "10x", "100x", "1000x", "10000x"};
+            String speed = (String) JOptionPane.showInputDialog(
+                    mainWindow,
+                    "Choose travel speed (game hours per second):",
+                    "Travel",
+                    JOptionPane.QUESTION_MESSAGE,
+                    null,
+                    speeds,
+                    speeds[1]);
+            if (speed != null && speed.equals(speeds[0])) {
+                gameLoop.execute(game -> stopTravel());
+            } else if (speed != null) {
+                int hoursPerSecond = Integer.parseInt(speed.substring(0, speed.length() - 1));
+                gameLoop.execute(game -> startTravel(hoursPerSecond));
+            }
+        } else if (direction != null) {
             String distanceStr = JOptionPane.showInputDialog("Enter distance (miles):");
             try {
                 int distance = Integer.parseInt(distanceStr);
+                gameLoop.execute(game -> move(direction, distance));
+            } catch (NumberFormatException e) {
+                logMessage("Invalid distance entered.");
+            }
+        }
+    }
 
-                Movement moveSystem = new Movement(gameMap);
+    // Runs on the game loop thread
+    private void move(String direction, int distance) {
+        stopTravel();
+        Movement moveSystem = context.getMovement();
 
-                moveSystem.travelDirection(direction.toLowerCase(), distance);
+        moveSystem.travelDirection(direction.toLowerCase(), distance);
 
-                // Process travel events
-                //todo processTravelEvents();
+        // Process travel events
+        //todo processTravelEvents();
 
-                // Consume resources based on travel
-                //todo playerInventory.consumeDailyRations(currentPlayer.getPartySize());
+        // Consume resources based on travel
+        //todo context.getInventory().consumeDailyRations(context.getPlayer().getPartySize());
 
-                // Update game time
-                /* todo
-                gameTime.advanceDay();
-                daysTraveled++;
+        // Update game time
+        /* todo
+        context.getTime().advanceDay();
+        daysTraveled++;
 
-                 */
+         */
 
-                // Check if reached landmark
-                // todo checkForLandmarks();
+        // Check if reached landmark
+        // todo checkForLandmarks();
 
-                updateGameState();
+        updateGameState();
 
-                logMessage("Traveled " + distance + " miles " + direction + ".");
-            } catch (NumberFormatException e) {
-                logMessage("Invalid distance entered.");
-            }
+        logMessage("Traveled " + distance + " miles " + direction + ".");
+    }
+
+    // Runs on the game loop thread
+    private void startTravel(int hoursPerSecond) {
+        if (travelClock == null || travelClock.isFinished()) {
+            travelClock = new TravelClock(context);
+            travelClock.setLog(this::logMessage);
+        }
+        travelClock.setSpeed(hoursPerSecond);
+        if (travel == null) {
+            lastTravelFrame = System.nanoTime();
+            travel = gameLoop.executeEvery(TRAVEL_FRAME_MS, game -> travelFrame());
+            logMessage("Your wagon sets off along the trail at " + hoursPerSecond + "x speed.");
         }
     }
 
-    private void processTravelEvents() {
-        // Random chance for perils to occur during travel
-        Perils dailyPerils = new Perils(currentPlayer);
-        checkGameMapInitialization();
-
-        // Random accident
-        if (Math.random() < 0.15) {
-            dailyPerils.accident();
-            logMessage("Accident occurred! Health reduced to " + currentPlayer.getHealth() + "%");
+    private void stopTravel() {
+        if (travel != null) {
+            travel.cancel(false);
+            travel = null;
+            logMessage("You stop the wagon.");
         }
+    }
 
-        // Random illness
-        if (Math.random() < 0.10) {
-            dailyPerils.illness();
-            logMessage("Someone in your party has fallen ill! Health reduced to " + currentPlayer.getHealth() + "%");
+    private void travelFrame() {
+        long now = System.nanoTime();
+        int day = context.getTime().getDay();
+        travelClock.advance(now - lastTravelFrame);
+        lastTravelFrame = now;
+        if (day != context.getTime().getDay()) {
+            updateGameState();
         }
 
-        // Weather effects
-        if (Math.random() < 0.20) {
-            dailyPerils.weather();
-            logMessage("Harsh weather conditions affected your journey! Health reduced to " + currentPlayer.getHealth() + "%");
+        if (travelClock.isFinished()) {
+            stopTravel();
+            handleGameOver();
+        } else if (travelClock.getLandmarkReached() != null) {
+            Landmark landmark = travelClock.getLandmarkReached();
+            logMessage(landmark.getDescription());
+            if (landmark.hasRiver()) {
+                handleRiverCrossing();
+            }
+            travelClock.leaveLandmark();
+            // Time spent in dialogs does not count towards travel
+            lastTravelFrame = System.nanoTime();
+        }
+    }
+
+    private void processTravelEvents() {
+        // At most one peril strikes each day, picked by the rules in perils.txt
+        PerilOutcome outcome = PerilRules.standard(1).roll(context);
+        if (outcome != PerilOutcome.NOTHING) {
+            outcome.apply(context.getPlayer(), this::logMessage);
+            logMessage("Health is now " + context.getPlayer().getHealth() + "%");
         }
 
         // Update weather
-        // todo currentWeather.updateWeather();
+        // todo context.getWeather().updateWeather(context.getTime());
 
         // Random event to ask about hunting if food is low
-        if (playerInventory.getFoodAmount() < 50 && Math.random() < 0.5) {
-            int choice = JOptionPane.showConfirmDialog(
+        if (context.getInventory().getFoodAmount() < 50 && context.getRandom().nextDouble() < 0.5) {
+            Integer choice = gameLoop.ask(() -> JOptionPane.showConfirmDialog(
                     mainWindow,
                     "You have less than 50 pounds of food left! Would you like to hunt?",
                     "Food Warning",
-                    JOptionPane.YES_NO_OPTION);
+                    JOptionPane.YES_NO_OPTION));
 
-            if (choice == JOptionPane.YES_OPTION) {
+            if (choice != null && choice == JOptionPane.YES_OPTION) {
                 handleHunt();
             }
         }
     }
 
-    private void checkGameMapInitialization() {
-        if (gameMap == null) {
-            gameMap = new GameMap(0, 0);
-        }
-    }
-
     private void handleHunt() {
         // Use hunting system from the startGame class
-        int foodBefore = playerInventory.getFoodAmount();
-        huntingSystem.hunt();
-        int foodAfter = playerInventory.getFoodAmount();
+        int foodBefore = context.getInventory().getFoodAmount();
+        context.getHuntingSystem().hunt();
+        int foodAfter = context.getInventory().getFoodAmount();
 
         if (foodAfter > foodBefore) {
             logMessage("Hunting successful! Added " + (foodAfter - foodBefore) + " pounds of food.");
@@ -195,49 +268,52 @@ public class Main {
         }
 
         // Advance time when hunting
-        gameTime.advanceDay();
+        context.getTime().advanceDay();
         daysTraveled++;
 
         updateGameState();
     }
 
+    private GameState currentState() {
+        return new GameState(context.getPlayer(), context.getGameMap(), context.getInventory(), context.getTime());
+    }
+
     private void updateGameState()
     {
-        gameMapPanel.repaint();
+        saveWriter.journal(autosaveJournal, currentState());
         // todo checkGameConditions();
     }
 
     private void checkGameConditions() {
-        if (currentPlayer.getHealth() <= 0) {
-            logMessage("Game Over: You have died from " + currentPlayer.getCauseOfDeath());
+        if (context.getPlayer().getHealth() <= 0) {
+            logMessage("Game Over: You have died from " + context.getPlayer().getCauseOfDeath());
             handleGameOver();
-        } else if (gameMap.getCurrentDistanceTraveled() >= WINNING_DISTANCE) {
+        } else if (context.getGameMap().getCurrentDistanceTraveled() >= WINNING_DISTANCE) {
             logMessage("Congratulations! You've reached Independence Rock!");
             handleGameOver();
-        } else if (gameTime.isWinter()) {
+        } else if (context.getTime().isWinter()) {
             logMessage("Game Over: Winter has arrived before reaching your destination.");
             handleGameOver();
         }
     }
 
     private void handleGameOver() {
-        int choice = JOptionPane.showConfirmDialog(
+        Integer choice = gameLoop.ask(() -> JOptionPane.showConfirmDialog(
                 mainWindow,
                 "Would you like to start a new game?",
                 "Game Over",
-                JOptionPane.YES_NO_OPTION);
+                JOptionPane.YES_NO_OPTION));
 
-        if (choice == JOptionPane.YES_OPTION) {
-            Initialize.start();
-            updateGameState();
+        if (choice != null && choice == JOptionPane.YES_OPTION) {
+            startGame();
         } else {
             System.exit(0);
         }
     }
 
     private void checkForLandmarks() {
-        if (gameMap.hasReachedNewLandmark()) {
-            Landmark currentLandmark = gameMap.getCurrentLandmark1();
+        if (context.getGameMap().hasReachedNewLandmark()) {
+            Landmark currentLandmark = context.getGameMap().getCurrentLandmark1();
 
             if(currentLandmark != null) {
                 logMessage("You have reached " + currentLandmark.getName());
@@ -254,7 +330,7 @@ public class Main {
         // Show dialog for river crossing options
         String[] options = {"Ford the river", "Use a ferry (costs $5)", "Find a guide (costs $10)", "Wait for better conditions"};
 
-        int choice = JOptionPane.showOptionDialog(
+        Integer choice = gameLoop.ask(() -> JOptionPane.showOptionDialog(
                 mainWindow,
                 "You've reached a river crossing. How would you like to proceed?",
                 "River Crossing",
@@ -262,13 +338,16 @@ public class Main {
                 JOptionPane.QUESTION_MESSAGE,
                 null,
                 options,
-                options[0]);
+                options[0]));
+        if (choice == null) {
+            return;
+        }
 
-        RiverCrossing crossing = new RiverCrossing();
+        RiverCrossing crossing = new RiverCrossing(context.getWeather(), context.getInventory(), context.getRandom());
 
         switch (choice) {
             case 0: // Ford the river
-                boolean success = crossing.fordRiver(currentPlayer, playerWagon);
+                boolean success = crossing.fordRiver(context.getPlayer(), context.getWagon());
                 if (success) {
                     logMessage("You successfully forded the river!");
                 } else {
@@ -276,8 +355,8 @@ public class Main {
                 }
                 break;
             case 1: // Use ferry
-                if (playerMoney.getBalance() >= 5) {
-                    playerMoney.removeMoney(5);
+                if (context.getMoney().getBalance() >= 5) {
+                    context.getMoney().removeMoney(5);
                     logMessage("You paid $5 to use the ferry and crossed safely.");
                 } else {
                     logMessage("You don't have enough money for the ferry! You must choose another option.");
@@ -285,8 +364,8 @@ public class Main {
                 }
                 break;
             case 2: // Use guide
-                if (playerMoney.getBalance() >= 10) {
-                    playerMoney.removeMoney(10);
+                if (context.getMoney().getBalance() >= 10) {
+                    context.getMoney().removeMoney(10);
                     logMessage("You paid $10 for a guide and crossed safely.");
                 } else {
                     logMessage("You don't have enough money for a guide! You must choose another option.");
@@ -294,8 +373,8 @@ public class Main {
                 }
                 break;
             case 3: // Wait
-                gameTime.advanceDay();
-                currentPlayer.heal(5);
+                context.getTime().advanceDay();
+                context.getPlayer().heal(5);
                 logMessage("You wait a day for better conditions. The water level has gone down slightly.");
                 handleRiverCrossing();
                 break;
@@ -1,32 +1,236 @@
     package termProject;
     import javax.swing.*;
     import java.awt.*;
-    import java.util.ArrayList;
+    import java.awt.image.BufferedImage;
+    import java.util.List;
 
     public class MapPanel extends JPanel {
+        private static final Color BACKGROUND_COLOR = new Color(230, 230, 200);
+        private static final Color TRAIL_COLOR = new Color(139, 69, 19);
+        private static final int FRAME_INTERVAL_MS = 16; // about 60 frames a second at most
+        private static final long TRAVEL_ANIMATION_NS = 600_000_000L;
+        private static final String DISTANCE_LABEL = "Distance: ";
+        private static final String DISTANCE_UNITS = " miles";
+
+        private GameSnapshot snapshot;
+
+        // The background, trail and landmarks, drawn once per trail and panel size
+        private BufferedImage staticLayer;
+        private LandmarkIndex staticLayerLandmarks;
+
+        // Where the player marker and distance text were last drawn
+        private final Rectangle playerBounds = new Rectangle();
+        private final Rectangle distanceBounds = new Rectangle();
+
+        // The marker's animated position, moving from the start values to the target values
+        private final Timer animation = new Timer(FRAME_INTERVAL_MS, e -> animationFrame());
+        private long animationStart;
+        private boolean followTrail;
+        private double startDistance, targetDistance, shownDistance;
+        private double startX, startY, targetX, targetY, shownX, shownY;
+
+        // Reused for every frame so that drawing does not create objects
+        private final StringBuilder distanceText = new StringBuilder();
+        private char[] distanceChars = new char[32];
+        private int distanceLength;
+        private long lastFrameTime;
+        private double averageFrameTime;
+
+        public MapPanel() {
+            animation.setCoalesce(true);
+        }
+
+        /**
+         * Shows a game, placing the player marker straight at its position.
+         *
+         * @param snapshot The game to show
+         */
+        public void setSnapshot(GameSnapshot snapshot) {
+            this.snapshot = snapshot;
+            animation.stop();
+            if (snapshot != null) {
+                updateTarget();
+                finishAnimation();
+                playerBounds(playerBounds);
+                distanceBounds(distanceBounds);
+            }
+            repaint();
+        }
+
+        /**
+         * Redraws the map after the player has moved.
+         * The marker travels to its new place along the trail over a short animation, and only the
+         * areas the player marker and distance text are leaving and moving into are repainted.
+         *
+         * @param snapshot The game as it is after the move
+         */
+        public void updatePlayer(GameSnapshot snapshot) {
+            if (this.snapshot == null || staticLayerLandmarks != snapshot.getLandmarkIndex()) {
+                setSnapshot(snapshot);
+                return;
+            }
+            this.snapshot = snapshot;
+
+            startDistance = shownDistance;
+            startX = shownX;
+            startY = shownY;
+            updateTarget();
+            if (startDistance == targetDistance && startX == targetX && startY == targetY) {
+                return;
+            }
+            animationStart = System.nanoTime();
+            if (!animation.isRunning()) {
+                animation.start();
+            }
+        }
+
+        // Follows the trail once the player has traveled along it, otherwise heads for the player's map position
+        private void updateTarget() {
+            targetDistance = snapshot.getDistanceTraveled();
+            followTrail = snapshot.getLandmarkIndex().size() > 1 && targetDistance > 0;
+            if (followTrail) {
+                double x = shownX;
+                double y = shownY;
+                moveToTrail(targetDistance);
+                targetX = shownX;
+                targetY = shownY;
+                shownX = x;
+                shownY = y;
+            } else {
+                targetX = snapshot.getPlayerX();
+                targetY = snapshot.getPlayerY();
+            }
+        }
+
+        private void animationFrame() {
+            double progress = Math.min(1.0, (System.nanoTime() - animationStart) / (double) TRAVEL_ANIMATION_NS);
+            repaint(playerBounds);
+            repaint(distanceBounds);
+
+            shownDistance = startDistance + (targetDistance - startDistance) * progress;
+            if (followTrail && startDistance > 0) {
+                moveToTrail(shownDistance);
+            } else {
+                shownX = startX + (targetX - startX) * progress;
+                shownY = startY + (targetY - startY) * progress;
+            }
+            if (progress >= 1.0) {
+                finishAnimation();
+                animation.stop();
+            }
+
+            repaint(playerBounds(playerBounds));
+            repaint(distanceBounds(distanceBounds));
+        }
+
+        private void finishAnimation() {
+            shownDistance = targetDistance;
+            shownX = targetX;
+            shownY = targetY;
+        }
+
+        // Places the marker on the line between the landmarks either side of a distance
+        private void moveToTrail(double distance) {
+            LandmarkIndex landmarks = snapshot.getLandmarkIndex();
+            int index = landmarks.indexAtOrBefore((int) distance);
+            Landmark from = landmarks.get(Math.max(index, 0));
+            Landmark to = landmarks.get(index + 1);
+            if (to == null || index < 0 || to.getDistance() == from.getDistance()) {
+                shownX = from.getX();
+                shownY = from.getY();
+                return;
+            }
+            double fraction = (distance - from.getDistance()) / (to.getDistance() - from.getDistance());
+            shownX = from.getX() + (to.getX() - from.getX()) * fraction;
+            shownY = from.getY() + (to.getY() - from.getY()) * fraction;
+        }
+
+        /**
+         * Gets how long the most recent frame took to draw.
+         *
+         * @return The frame time in milliseconds
+         */
+        public double getLastFrameTime() {
+            return lastFrameTime / 1_000_000.0;
+        }
+
+        /**
+         * Gets the recent average time taken to draw a frame.
+         *
+         * @return The average frame time in milliseconds
+         */
+        public double getAverageFrameTime() {
+            return averageFrameTime / 1_000_000.0;
+        }
+
+        public boolean isAnimating() {
+            return animation.isRunning();
+        }
+
         @Override
         protected void paintComponent(Graphics g) {
-            super.paintComponent(g);
+            if (snapshot == null) {
+                super.paintComponent(g);
+                g.setColor(BACKGROUND_COLOR);
+                g.fillRect(0, 0, getWidth(), getHeight());
+                return;
+            }
+            long frameStart = System.nanoTime();
+
+            // The cached layer covers the whole panel, so there is no need to clear it first
+            g.drawImage(getStaticLayer(), 0, 0, null);
+
+            // Draw player position
+            drawPlayer(g);
+
+            // Draw distance indicator
+            drawDistanceIndicator(g);
+
+            lastFrameTime = System.nanoTime() - frameStart;
+            averageFrameTime = averageFrameTime == 0 ? lastFrameTime : averageFrameTime * 0.9 + lastFrameTime * 0.1;
+        }
+
+        private BufferedImage getStaticLayer() {
+            int width = Math.max(getWidth(), 1);
+            int height = Math.max(getHeight(), 1);
+            LandmarkIndex landmarks = snapshot.getLandmarkIndex();
+            if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height
+                    || staticLayerLandmarks != landmarks) {
+                staticLayer = createLayer(width, height);
+                staticLayerLandmarks = landmarks;
+
+                Graphics2D g = staticLayer.createGraphics();
+                try {
+                    drawStaticLayer(g, width, height, landmarks.getLandmarks());
+                } finally {
+                    g.dispose();
+                }
+            }
+            return staticLayer;
+        }
 
+        private BufferedImage createLayer(int width, int height) {
+            GraphicsConfiguration configuration = getGraphicsConfiguration();
+            if (configuration != null) {
+                return configuration.createCompatibleImage(width, height, Transparency.OPAQUE);
+            }
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+
+        private void drawStaticLayer(Graphics g, int width, int height, List<Landmark> landmarks) {
             // Draw background
-            g.setColor(new Color(230, 230, 200));
-            g.fillRect(0, 0, getWidth(), getHeight());
+            g.setColor(BACKGROUND_COLOR);
+            g.fillRect(0, 0, width, height);
 
             // Draw trail
-            g.setColor(new Color(139, 69, 19));
-            g.drawLine(50, getHeight()-50, getWidth()-50, 50);
+            g.setColor(TRAIL_COLOR);
+            g.drawLine(50, height-50, width-50, 50);
 
             // Draw landmarks
-            ArrayList<Landmark> landmarks = Main.gameMap.getLandmarks();
+            g.setFont(getFont());
             for (Landmark lm : landmarks) {
                 drawLandmark(g, lm);
             }
-
-            // Draw player position
-            drawPlayer(g);
-
-            // Draw distance indicator
-            drawDistanceIndicator(g);
         }
 
         private void drawLandmark(Graphics g, Landmark lm) {
@@ -42,12 +246,33 @@
 
         private void drawPlayer(Graphics g) {
             g.setColor(Color.RED);
-            g.fillOval(Main.gameMap.getPlayerX()-5, Main.gameMap.getPlayerY()-5, 10, 10);
+            g.fillOval((int) Math.round(shownX)-5, (int) Math.round(shownY)-5, 10, 10);
+            playerBounds(playerBounds);
         }
 
         private void drawDistanceIndicator(Graphics g) {
             g.setColor(Color.BLACK);
-            g.drawString("Distance: " + Main.gameMap.getCurrentDistanceTraveled() + " miles", 10, 20);
+            g.drawChars(distanceChars, 0, distanceLength, 10, 20);
+        }
+
+        private Rectangle playerBounds(Rectangle bounds) {
+            bounds.setBounds((int) Math.round(shownX)-5, (int) Math.round(shownY)-5, 11, 11);
+            return bounds;
         }
-    }
 
+        // Also refreshes the distance text, which only changes when the bounds are worked out again
+        private Rectangle distanceBounds(Rectangle bounds) {
+            distanceText.setLength(0);
+            distanceText.append(DISTANCE_LABEL).append(Math.round(shownDistance)).append(DISTANCE_UNITS);
+            distanceLength = distanceText.length();
+            if (distanceChars.length < distanceLength) {
+                distanceChars = new char[distanceLength * 2];
+            }
+            distanceText.getChars(0, distanceLength, distanceChars, 0);
+
+            FontMetrics metrics = getFontMetrics(getFont());
+            bounds.setBounds(10, 20 - metrics.getAscent(), metrics.charsWidth(distanceChars, 0, distanceLength) + 1,
+                    metrics.getAscent() + metrics.getDescent());
+            return bounds;
+        }
+    }
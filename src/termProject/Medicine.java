@@ -1,5 +1,7 @@
 package termProject;
 
+import java.nio.ByteBuffer;
+
 /**
  * Medicine Class of the Perils Along the Platte Game
  * Represents medical items that can heal players and companions.
@@ -116,4 +118,18 @@ public class Medicine extends Item {
     public static Medicine createAdvancedMedicine(int quantity) {
         return new Medicine("Advanced Medicine", 5, quantity, 2);
     }
-}
\ No newline at end of file
+
+    @Override
+    void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+        buffer.putInt(healingPower);
+        buffer.putInt(price);
+    }
+
+    @Override
+    void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+        healingPower = buffer.getInt();
+        price = buffer.getInt();
+    }
+}
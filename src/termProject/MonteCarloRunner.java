@@ -0,0 +1,118 @@
+package termProject;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * MonteCarloRunner Class of the Perils Along the Platte Game
+ * Runs many independent journeys in parallel and summarizes their outcomes.
+ * Journeys are split across a fork-join pool and their statistics merged as the work completes.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : monteCarloRunner.java
+ */
+public class MonteCarloRunner {
+    /**
+     * The trails offered by Initialize.selectTrail.
+     */
+    public static final String[] TRAILS = {"Oregon", "California", "Mormon"};
+
+    private static final int JOURNEYS_PER_TASK = 256;
+
+    private final ForkJoinPool pool;
+    private final DecisionPolicy policy;
+    private final long batchSeed;
+
+    /**
+     * Constructor for a runner that uses the common fork-join pool.
+     *
+     * @param policy The policy used for every journey; it is shared between threads
+     */
+    public MonteCarloRunner(DecisionPolicy policy) {
+        this(ForkJoinPool.commonPool(), policy, new GameRandom().getSeed());
+    }
+
+    /**
+     * Constructor for a runner that uses the given fork-join pool.
+     *
+     * @param pool The pool to run journeys on
+     * @param policy The policy used for every journey; it is shared between threads
+     * @param batchSeed The seed every journey's seed is derived from, so whole batches can be replayed
+     */
+    public MonteCarloRunner(ForkJoinPool pool, DecisionPolicy policy, long batchSeed) {
+        this.pool = pool;
+        this.policy = policy;
+        this.batchSeed = batchSeed;
+    }
+
+    public long getBatchSeed() {
+        return batchSeed;
+    }
+
+    /**
+     * Runs a number of journeys along one trail from one departure month.
+     *
+     * @param trailType The trail to travel ("Oregon", "California", or "Mormon")
+     * @param departureMonth The departure month as an index into Time.monthName
+     * @param journeys The number of journeys to run
+     * @return The combined statistics of all the journeys
+     */
+    public JourneyStatistics run(String trailType, int departureMonth, long journeys) {
+        return pool.invoke(new JourneyTask(trailType, departureMonth, 0, journeys));
+    }
+
+    /**
+     * Runs the same number of journeys for every trail and departure month.
+     *
+     * @param journeys The number of journeys to run for each trail and month
+     * @return Statistics indexed by trail (as in TRAILS) and then departure month
+     */
+    public JourneyStatistics[][] sweep(long journeys) {
+        JourneyStatistics[][] results = new JourneyStatistics[TRAILS.length][Time.monthName.length];
+        for (int trail = 0; trail < TRAILS.length; trail++) {
+            for (int month = 0; month < Time.monthName.length; month++) {
+                results[trail][month] = run(TRAILS[trail], month, journeys);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Runs a range of journeys, splitting the range in half until it is small enough to run directly.
+     */
+    private class JourneyTask extends RecursiveTask<JourneyStatistics> {
+        private static final long serialVersionUID = 1L;
+
+        private final String trailType;
+        private final int departureMonth;
+        private final long start;
+        private final long end;
+
+        JourneyTask(String trailType, int departureMonth, long start, long end) {
+            this.trailType = trailType;
+            this.departureMonth = departureMonth;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected JourneyStatistics compute() {
+            if (end - start <= JOURNEYS_PER_TASK) {
+                JourneyStatistics statistics = new JourneyStatistics();
+                for (long i = start; i < end; i++) {
+                    long seed = GameRandom.journeySeed(batchSeed, i);
+                    statistics.add(new TrailSimulation(trailType, departureMonth, policy, seed).run());
+                }
+                return statistics;
+            }
+
+            long middle = (start + end) >>> 1;
+            JourneyTask left = new JourneyTask(trailType, departureMonth, start, middle);
+            JourneyTask right = new JourneyTask(trailType, departureMonth, middle, end);
+            left.fork();
+            return right.compute().merge(left.join());
+        }
+    }
+}
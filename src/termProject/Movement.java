@@ -9,11 +9,16 @@ public class Movement extends Player {
    int movementSpeed = 1;
 
 
+   private GameMap gameMap;
    private Time gameTime;
    private Player currentPlayer;
    private final Scanner scanner;
    private Wagon playerWagon;
-   private final Weather currentWeather;
+   private Weather currentWeather;
+   private final GameRandom random;
+   private WagonTrain wagonTrain;
+   private double milesCarried; // part of a mile covered but not yet added to the map
+   public static final double MILES_PER_HOUR = 2.0; // a healthy team on a dry trail
    public String[] direction = {"north", "south", "east", "west", "northeast", "northwest", "southeast", "southwest"};
 
     /**
@@ -23,9 +28,23 @@ public class Movement extends Player {
      * @param map The game map on which movement occurs
      */
     public Movement(GameMap map)
+    {
+        this(map, new GameRandom());
+    }
+
+    // Weather on its own draws from the same generator as the rest of the movement
+    private Movement(GameMap map, GameRandom random)
+    {
+        this(map, new Weather(random), random);
+    }
+
+    // Sets up the directions and the components shared by every constructor
+    private Movement(GameMap map, Weather weather, GameRandom random)
     {
         super();
-        currentWeather  = new Weather();
+        this.gameMap = map;
+        this.random = random;
+        this.currentWeather = weather;
         this.scanner = new Scanner(System.in);
 
         directionMap.put("north", new int[]{0, 1});
@@ -38,6 +57,25 @@ public class Movement extends Player {
         directionMap.put("southwest", new int[]{-1, -1});
     }
 
+    /**
+     * Constructor for a movement system bound to a full set of game components.
+     * Used when travel should account for the wagon, oxen, weather and time of day.
+     * 
+     * @param map The game map on which movement occurs
+     * @param player The player who is traveling
+     * @param wagon The wagon being pulled
+     * @param weather The current weather
+     * @param time The game clock advanced while traveling
+     * @param random The random number generator for the game
+     */
+    public Movement(GameMap map, Player player, Wagon wagon, Weather weather, Time time, GameRandom random)
+    {
+        this(map, weather, random);
+        this.currentPlayer = player;
+        this.playerWagon = wagon;
+        this.gameTime = time;
+    }
+
     /**
      * Initiates travel in a specified direction for a set distance.
      * Allows the player to stop movement by typing 'stop'.
@@ -95,30 +133,113 @@ public class Movement extends Player {
         // Update position based on direction
         switch(direction.toLowerCase()) {
             case "north":
-                Main.gameMap.updatePosition(0, -actualDistance);
+                gameMap.updatePosition(0, -actualDistance);
                 break;
             case "south":
-                Main.gameMap.updatePosition(0, actualDistance);
+                gameMap.updatePosition(0, actualDistance);
                 break;
             case "east":
-                Main.gameMap.updatePosition(actualDistance, 0);
+                gameMap.updatePosition(actualDistance, 0);
                 break;
             case "west":
-                Main.gameMap.updatePosition(-actualDistance, 0);
+                gameMap.updatePosition(-actualDistance, 0);
                 break;
         }
         
         //todo handleRandomEvent();
     }
 
+    /**
+     * Travels along the trail for up to the given distance.
+     * The distance covered is reduced by weather, wagon condition and oxen health,
+     * and the trip advances the clock, tires the player and wears the wagon.
+     * 
+     * @param distance The number of miles the party attempts to travel
+     * @return The number of miles actually traveled
+     */
+    public int travelTrail(int distance) {
+        int actualDistance = calculateActualDistance(distance);
+
+        gameMap.updatePosition(actualDistance);
+        if (gameTime != null) {
+            gameTime.advanceTime(actualDistance / 10);
+        }
+        if (currentPlayer != null) {
+            currentPlayer.increaseFatigue(actualDistance * 0.1);
+        }
+        if (playerWagon != null) {
+            playerWagon.updateCondition(actualDistance * 0.05);
+        }
+        return actualDistance;
+    }
+
+    /**
+     * Travels along the trail for one hour at the party's current pace.
+     * Parts of a mile are carried over to the next hour, so slow hours still add up.
+     * 
+     * @return The number of whole miles added to the distance traveled
+     */
+    public int travelHour() {
+        milesCarried += MILES_PER_HOUR * getPaceMultiplier();
+        int actualDistance = (int) milesCarried;
+        milesCarried -= actualDistance;
+
+        gameMap.updatePosition(actualDistance);
+        if (currentPlayer != null) {
+            currentPlayer.increaseFatigue(actualDistance * 0.1);
+        }
+        if (playerWagon != null) {
+            playerWagon.updateCondition(actualDistance * 0.05);
+        }
+        return actualDistance;
+    }
+
     private int calculateActualDistance(int intendedDistance) {
+        return (int)(intendedDistance * getPaceMultiplier());
+    }
+
+    /**
+     * Works out how much of a normal day's travel the party can manage.
+     * Rain, snow, a worn wagon and tired oxen all slow the party down.
+     * 
+     * @return The fraction of normal pace, from 0 to 1
+     */
+    public double getPaceMultiplier() {
         double multiplier = 1.0;
         
         // Weather effects
         if (currentWeather.getCurrentWeather().equals("Rainy")) {
             multiplier *= 0.7;
         }
-        return (int)(intendedDistance * multiplier);
+        if (currentWeather.isSnowing()) {
+            multiplier *= 0.4;
+        }
+
+        // Vehicle and animal health
+        if (playerWagon != null) {
+            if (playerWagon.getCondition() < 30) {
+                multiplier *= 0.5;
+            } else if (playerWagon.getCondition() < 50) {
+                multiplier *= 0.8;
+            }
+        }
+        if (wagonTrain != null) {
+            if (wagonTrain.getOxenCount() > 0 && wagonTrain.getAverageOxenHealth() < 50) {
+                multiplier *= 0.7;
+            }
+        } else if (currentPlayer != null && currentPlayer.getOxenCount() > 0 && currentPlayer.getOxenHealth() < 50) {
+            multiplier *= 0.7;
+        }
+        return multiplier;
+    }
+
+    /**
+     * Sets the wagon train whose oxen set the pace, in place of the player's own oxen.
+     * 
+     * @param wagonTrain The wagon train, or null to travel as a single party
+     */
+    public void setWagonTrain(WagonTrain wagonTrain) {
+        this.wagonTrain = wagonTrain;
     }
 
     //todo - for text base implementation?
@@ -139,7 +260,7 @@ public class Movement extends Player {
 
     public void handleRandomEvent() {
         // Random event logic will be implemented here
-        int eventChance = (int)(Math.random() * 100);
+        int eventChance = random.nextInt(100);
         if (eventChance < 20) {
             // Implement random events
         }
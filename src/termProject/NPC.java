@@ -18,6 +18,7 @@ public class NPC {
     private int maxHealth;
     private int currency;
     private Inventory inventory;
+    private final GameRandom random;
 
     /**
      * Constructor for creating a new NPC with specified attributes.
@@ -27,6 +28,19 @@ public class NPC {
      * @param currency The amount of currency the NPC possesses
      */
     public NPC(String name, int maxHealth, int currency) {
+        this(name, maxHealth, currency, new GameRandom());
+    }
+
+    /**
+     * Constructor for an NPC that draws from the given generator.
+     * 
+     * @param name The name of the NPC
+     * @param maxHealth The maximum health of the NPC
+     * @param currency The amount of currency the NPC possesses
+     * @param random The random number generator for the game
+     */
+    public NPC(String name, int maxHealth, int currency, GameRandom random) {
+        this.random = random;
         this.name = name;
         this.maxHealth = maxHealth;
         this.health = maxHealth; // Initially, the NPC has full health
@@ -110,11 +124,11 @@ public class NPC {
                 "I'm willing to trade for some of your goods."
         };
 
-        int dialogueIndex = (int) (Math.random() * dialogues.length);
+        int dialogueIndex = random.nextInt(dialogues.length);
         System.out.println(name + " says: " + dialogues[dialogueIndex]);
 
         // Example of random trade offer (this could trigger a trade or just a chat)
-        if (Math.random() * 100 < 50) {
+        if (random.nextInt(100) < 50) {
             System.out.println("The NPC offers to trade with you.");
         } else {
             System.out.println("The NPC doesn't have anything to offer right now.");
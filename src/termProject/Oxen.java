@@ -1,5 +1,7 @@
 package termProject;
 
+import java.nio.ByteBuffer;
+
 /**
  * Oxen Class of the Perils Along the Platte Game
  * Represents the draft animals that pull the pioneer wagon.
@@ -10,15 +12,13 @@ package termProject;
  * @ date : 03/25/2025
  * @ file : oxen.java
  */
-import java.util.Random;
-
 public class Oxen {
     private String name; // Name of the oxen (optional, can be used for specific oxen)
     private int health;  // Health of the oxen
     private int maxHealth; // Max health of the oxen
     private boolean isAlive; // Whether the ox is alive or dead
     private int cost; // The cost to buy the ox
-    private static final Random random = new Random(); // Random object for events (if needed)
+    private final GameRandom random; // Random object for events
     Food food;
 
     /**
@@ -30,6 +30,18 @@ public class Oxen {
      *
      */
     public Oxen(String name, int cost) {
+        this(name, cost, new GameRandom());
+    }
+
+    /**
+     * Constructor for creating a new oxen that draws from the given generator.
+     * 
+     * @param name The name of the oxen
+     * @param cost The purchase cost of the oxen
+     * @param random The random number generator for the game
+     */
+    public Oxen(String name, int cost, GameRandom random) {
+        this.random = random;
         this.name = name;
         this.health = 100; // Default health for the ox
         this.maxHealth = 100;
@@ -176,6 +188,32 @@ public class Oxen {
     public Food getFood(){
         return food;
     }
-}
 
+    /**
+     * Writes the oxen's fields for a saved game.
+     *
+     * @param buffer The buffer to write to
+     */
+    void writeState(ByteBuffer buffer) {
+        GameStateCodec.putString(name, buffer);
+        buffer.putInt(health);
+        buffer.putInt(maxHealth);
+        GameStateCodec.putBoolean(isAlive, buffer);
+        buffer.putInt(cost);
+        GameStateCodec.writeItem(food, buffer);
+    }
 
+    /**
+     * Reads the oxen's fields from a saved game.
+     *
+     * @param buffer The buffer to read from
+     */
+    void readState(ByteBuffer buffer) {
+        name = GameStateCodec.getString(buffer);
+        health = buffer.getInt();
+        maxHealth = buffer.getInt();
+        isAlive = GameStateCodec.getBoolean(buffer);
+        cost = buffer.getInt();
+        food = (Food) GameStateCodec.readItem(buffer);
+    }
+}
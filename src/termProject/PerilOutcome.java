@@ -0,0 +1,116 @@
+package termProject;
+
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * PerilOutcome Enum of the Perils Along the Platte Game
+ * Everything that can come of a peril on the trail, along with what it says and does to the player.
+ * Messages go to whatever receiver the caller passes in, so the game window, the console and
+ * simulations each show them their own way.
+ * Perils picks these from weighted event tables, so a new outcome only needs a constant here and
+ * an entry in a table.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : perilOutcome.java
+ */
+public enum PerilOutcome {
+    NOTHING("none", (player, log) -> { }),
+
+    WAGON_DAMAGED("accident", (player, log) -> player.decreaseCurrency(20),
+            "An accident occurred!", "The wagon was damaged! Repairing costs 20 dollars."),
+    OX_INJURED("accident", (player, log) -> player.decreaseOxHealth(10, log),
+            "An accident occurred!", "One of your oxen was injured! It needs rest."),
+    PLAYER_INJURED("accident", (player, log) -> player.takeDamage(5),
+            "An accident occurred!", "You were injured! Lose 5 health."),
+    AXLE_BROKEN("accident", (player, log) -> damageWagon(player, 25),
+            "Wagon problem: cracked axle", "The axle cracked on the muddy trail! The wagon is badly damaged."),
+
+    MEMBER_SICK("illness", (player, log) -> player.takeDamage(10),
+            "An illness has struck your group!", "A human member is sick! Lose 10 health."),
+    OX_SICK("illness", (player, log) -> player.decreaseOxHealth(10, log),
+            "An illness has struck your group!", "One of your oxen is sick! It loses 10 health."),
+
+    PREGNANT("pregnancy", (player, log) -> player.takeDamage(10),
+            "A human member is pregnant! They will need rest.",
+            "The human member's health is temporarily reduced by 10."),
+
+    WAGON_STUCK("river", (player, log) -> player.decreaseCurrency(10),
+            "You are crossing a river...", "The wagon got stuck in the river!",
+            "Repairing the wagon costs 10 dollars."),
+    RIVER_CROSSED("river", (player, log) -> { },
+            "You are crossing a river...", "The crossing was successful!"),
+    RIVER_CALM("river", (player, log) -> { },
+            "The river crossing was calm, no problems."),
+
+    SUPPLIES_STOLEN("supplies", (player, log) -> loseFood(player, log, "Hay", 10, "Some of your supplies were stolen! You lost 10 food."),
+            "There was a problem with your supplies!"),
+    FOOD_RANCID("supplies", (player, log) -> loseFood(player, log, "Grain", 5, "Your food has gone rancid! You lost 5 food."),
+            "There was a problem with your supplies!"),
+    SUPPLIES_LOST("supplies", (player, log) -> player.decreaseCurrency(5),
+            "There was a problem with your supplies!", "You lost some supplies! You lost 5 dollars."),
+
+    STORM("weather", (player, log) -> player.decreaseFood(10),
+            "A weather event is happening!", "A storm has hit! You lose 10 food to spoilage."),
+    HEAT("weather", (player, log) -> player.decreaseOxHealth(15, log),
+            "A weather event is happening!", "Extreme heat has made your oxen lose health!");
+
+    private final String peril;
+    private final BiConsumer<Player, Consumer<String>> effect;
+    private final String[] messages;
+
+    PerilOutcome(String peril, BiConsumer<Player, Consumer<String>> effect, String... messages) {
+        this.peril = peril;
+        this.effect = effect;
+        this.messages = messages;
+    }
+
+    /**
+     * Applies this outcome to the player and sends its messages to the log.
+     *
+     * @param player The player affected
+     * @param log The receiver for the outcome's messages
+     */
+    public void apply(Player player, Consumer<String> log) {
+        for (String message : messages) {
+            log.accept(message);
+        }
+        effect.accept(player, log);
+    }
+
+    /**
+     * Gets the peril this outcome belongs to.
+     *
+     * @return "accident", "illness", "pregnancy", "river", "supplies", "weather", or "none"
+     */
+    public String getPeril() {
+        return peril;
+    }
+
+    /**
+     * Gets the message that best sums up this outcome.
+     *
+     * @return The last of the outcome's messages, or an empty string if it has none
+     */
+    public String getSummary() {
+        return messages.length == 0 ? "" : messages[messages.length - 1];
+    }
+
+    private static void damageWagon(Player player, int amount) {
+        if (player.getWagon() != null) {
+            player.getWagon().damage(amount);
+        }
+    }
+
+    private static void loseFood(Player player, Consumer<String> log, String foodName, int amount, String message) {
+        Food food = player.getFoodType(foodName);
+        if (food != null) {
+            log.accept(message);
+            food.decreaseQuantity(amount);
+        } else {
+            log.accept("You don't have any " + foodName + " to lose!");
+        }
+    }
+}
@@ -0,0 +1,478 @@
+package termProject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PerilRules Class of the Perils Along the Platte Game
+ * Decides which peril, if any, strikes the party, from rules read from perils.txt.
+ * Each rule gives a daily chance and the conditions it needs, such as "wagon < 50 and raining".
+ * The conditions of every rule are compiled into one list with no repeats, and the rules that
+ * apply to a set of conditions are combined into a single event table the first time that set
+ * comes up. A roll then reads only the values the conditions test, checks each distinct condition
+ * once and draws one random number, however many rules there are.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : perilRules.java
+ */
+public final class PerilRules {
+    private static final String STANDARD_RULES = "perils.txt";
+    private static final int MAX_CONDITIONS = Long.SIZE; // one bit of the condition mask each
+    private static final int MAX_CACHED_TABLES = 4096;
+
+    // The values a condition can test, each read from the game by its position in read()
+    private static final String[] VALUES = {
+            "wagon", "oxen", "health", "food", "money", "month", "distance", "temperature",
+            "raining", "snowing", "sick", "winter"
+    };
+    private static final int FIRST_FLAG = 8; // values from here on are 1 when true and 0 when false
+    private static final String[] OPERATORS = {"<", "<=", ">", ">=", "==", "!="};
+    private static final int LESS = 0;
+    private static final int LESS_OR_EQUAL = 1;
+    private static final int GREATER = 2;
+    private static final int GREATER_OR_EQUAL = 3;
+    private static final int EQUAL = 4;
+    private static final int NOT_EQUAL = 5;
+
+    // Distinct conditions: condition i tests VALUES[conditionValue[i]] against conditionConstant[i]
+    private final int conditionCount;
+    private final int[] conditionValue;
+    private final int[] conditionOperator;
+    private final double[] conditionConstant;
+
+    // The values some condition tests, and the conditions that test each of them
+    private final int[] testedValues;
+    private final int[][] conditionsOfValue;
+
+    // Rules: rule i applies when every condition in ruleConditions[i] holds
+    private final long[] ruleConditions;
+    private final double[] ruleChance;
+    private final List<EventTable<PerilOutcome>> ruleOutcomes;
+
+    // The combined table for each set of conditions that has come up so far
+    private final Map<Long, EventTable<PerilOutcome>> tables = new ConcurrentHashMap<>();
+
+    private PerilRules(List<String> conditions, List<Long> required, List<Double> chances,
+                       List<EventTable<PerilOutcome>> outcomes) {
+        conditionCount = conditions.size();
+        conditionValue = new int[conditionCount];
+        conditionOperator = new int[conditionCount];
+        conditionConstant = new double[conditionCount];
+        for (int i = 0; i < conditionCount; i++) {
+            String[] parts = conditions.get(i).split(" ");
+            conditionValue[i] = indexOf(VALUES, parts[0]);
+            conditionOperator[i] = indexOf(OPERATORS, parts[1]);
+            conditionConstant[i] = Double.parseDouble(parts[2]);
+        }
+
+        int[] tested = new int[VALUES.length];
+        int testedCount = 0;
+        conditionsOfValue = new int[VALUES.length][];
+        for (int value = 0; value < VALUES.length; value++) {
+            int count = 0;
+            for (int i = 0; i < conditionCount; i++) {
+                if (conditionValue[i] == value) {
+                    count++;
+                }
+            }
+            conditionsOfValue[value] = new int[count];
+            for (int i = 0, next = 0; i < conditionCount; i++) {
+                if (conditionValue[i] == value) {
+                    conditionsOfValue[value][next++] = i;
+                }
+            }
+            if (count > 0) {
+                tested[testedCount++] = value;
+            }
+        }
+        testedValues = Arrays.copyOf(tested, testedCount);
+
+        ruleConditions = new long[required.size()];
+        ruleChance = new double[chances.size()];
+        for (int i = 0; i < ruleConditions.length; i++) {
+            ruleConditions[i] = required.get(i);
+            ruleChance[i] = chances.get(i);
+        }
+        ruleOutcomes = outcomes;
+    }
+
+    /**
+     * Gets the standard peril rules from perils.txt.
+     *
+     * @param rollsPerDay How many times a day the rules are rolled, such as 1 for a daily turn
+     *                    or 24 for hourly travel. Each rule's daily chance is shared out so it
+     *                    happens just as often in a day either way.
+     * @return The standard rules, or rules that never pick a peril if perils.txt cannot be read
+     */
+    public static PerilRules standard(int rollsPerDay) {
+        return StandardRules.RULES.computeIfAbsent(rollsPerDay, PerilRules::readStandardRules);
+    }
+
+    // Only loaded, and perils.txt read, on first use
+    private static final class StandardRules {
+        static final Map<Integer, PerilRules> RULES = new ConcurrentHashMap<>();
+    }
+
+    private static PerilRules readStandardRules(int rollsPerDay) {
+        try (InputStream in = PerilRules.class.getResourceAsStream(STANDARD_RULES)) {
+            if (in == null) {
+                throw new IOException(STANDARD_RULES + " not found");
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return read(reader, rollsPerDay);
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading peril rules: " + e.getMessage());
+            return new PerilRules(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        }
+    }
+
+    /**
+     * Reads peril rules in the format of perils.txt.
+     * Any number of rules may share the same conditions, but a file can test no more than 64
+     * different conditions, since the conditions that hold are kept as the bits of a long.
+     *
+     * @param source The rules to read
+     * @param rollsPerDay How many times a day the rules are rolled
+     * @return The compiled rules
+     * @throws IOException If the rules cannot be read or are not valid, including when they test
+     *                     more than 64 different conditions between them
+     */
+    public static PerilRules read(Reader source, int rollsPerDay) throws IOException {
+        if (rollsPerDay < 1) {
+            throw new IllegalArgumentException("Invalid rolls per day " + rollsPerDay);
+        }
+        BufferedReader reader = new BufferedReader(source);
+        List<String> conditions = new ArrayList<>();
+        List<Long> required = new ArrayList<>();
+        List<Double> chances = new ArrayList<>();
+        List<EventTable<PerilOutcome>> outcomes = new ArrayList<>();
+        List<Integer> lines = new ArrayList<>();
+
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split("\\|", -1);
+            if (!fields[0].equals("rule") || fields.length != 4) {
+                throw new IOException("Unrecognized peril rule on line " + lineNumber);
+            }
+            try {
+                double dailyChance = Double.parseDouble(fields[1].trim()) / 100;
+                if (!(dailyChance >= 0 && dailyChance <= 1)) {
+                    throw new IOException("Chance out of range on line " + lineNumber);
+                }
+                double chance = 1 - Math.pow(1 - dailyChance, 1.0 / rollsPerDay);
+
+                EventTable<PerilOutcome> outcome = toOutcome(fields[2].trim());
+                if (outcome == null) {
+                    throw new IOException("Unknown peril " + fields[2].trim() + " on line " + lineNumber);
+                }
+
+                long mask = 0;
+                if (!fields[3].trim().isEmpty()) {
+                    for (String condition : fields[3].trim().split("\\s+and\\s+")) {
+                        String compiled = toCondition(condition.trim());
+                        if (compiled == null) {
+                            throw new IOException("Invalid condition \"" + condition.trim() + "\" on line " + lineNumber);
+                        }
+                        int index = conditions.indexOf(compiled);
+                        if (index < 0) {
+                            if (conditions.size() == MAX_CONDITIONS) {
+                                throw new IOException("Too many different conditions on line " + lineNumber
+                                        + ": a rules file can test at most " + MAX_CONDITIONS + " different conditions");
+                            }
+                            index = conditions.size();
+                            conditions.add(compiled);
+                        }
+                        mask |= 1L << index;
+                    }
+                }
+
+                required.add(mask);
+                chances.add(chance);
+                outcomes.add(outcome);
+                lines.add(lineNumber);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid number on line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+        checkChances(conditions, required, chances, lines);
+        return new PerilRules(conditions, required, chances, outcomes);
+    }
+
+    // Rules that can never apply together, such as "raining" and "not raining", may add up to
+    // more than 100%. Each rule goes into the first group whose rules it can never apply together
+    // with, largest chance first. At most one rule of a group applies at a time, so the largest
+    // chance of each group added up is the most the rules can come to, and must leave room for
+    // no peril. This may turn down rules that could only go over 100% under conditions that never
+    // all hold at once, but takes time in proportion to the square of the number of rules.
+    private static void checkChances(List<String> conditions, List<Long> required, List<Double> chances,
+                                     List<Integer> lines) throws IOException {
+        double[][] points = new double[VALUES.length][];
+        for (int value = 0; value < VALUES.length; value++) {
+            points[value] = testPoints(conditions, value);
+        }
+        BitSet[][] regions = new BitSet[required.size()][];
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < required.size(); i++) {
+            regions[i] = regionOf(conditions, points, required.get(i));
+            if (regions[i] != null) {
+                order.add(i);
+            }
+        }
+        order.sort((a, b) -> Double.compare(chances.get(b), chances.get(a)));
+
+        List<List<Integer>> groups = new ArrayList<>();
+        for (int rule : order) {
+            List<Integer> group = null;
+            for (int g = 0; g < groups.size() && group == null; g++) {
+                boolean exclusive = true;
+                for (int other : groups.get(g)) {
+                    exclusive &= !overlaps(regions[rule], regions[other]);
+                }
+                if (exclusive) {
+                    group = groups.get(g);
+                }
+            }
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.add(group);
+            }
+            group.add(rule);
+        }
+
+        double total = 0;
+        StringBuilder rules = new StringBuilder();
+        for (List<Integer> group : groups) {
+            total += chances.get(group.get(0));
+            rules.append(rules.length() == 0 ? "" : ", ").append(lines.get(group.get(0)));
+        }
+        if (total > 1 + 1e-9) {
+            throw new IOException("Chances of the rules on lines " + rules + " can add up to more than 100%");
+        }
+    }
+
+    // The values each value can take while a rule applies, as the set of test points of that value
+    // where all of the rule's conditions on it hold, or null where the rule does not test it.
+    // Returns null if the rule can never apply.
+    private static BitSet[] regionOf(List<String> conditions, double[][] points, long mask) {
+        BitSet[] region = new BitSet[VALUES.length];
+        for (int i = 0; i < conditions.size(); i++) {
+            if ((mask & 1L << i) == 0) {
+                continue;
+            }
+            String[] parts = conditions.get(i).split(" ");
+            int value = indexOf(VALUES, parts[0]);
+            BitSet holding = new BitSet(points[value].length);
+            for (int p = 0; p < points[value].length; p++) {
+                if (holds(points[value][p], indexOf(OPERATORS, parts[1]), Double.parseDouble(parts[2]))) {
+                    holding.set(p);
+                }
+            }
+            if (region[value] == null) {
+                region[value] = holding;
+            } else {
+                region[value].and(holding);
+            }
+            if (region[value].isEmpty()) {
+                return null;
+            }
+        }
+        return region;
+    }
+
+    private static boolean overlaps(BitSet[] region, BitSet[] other) {
+        for (int value = 0; value < VALUES.length; value++) {
+            if (region[value] != null && other[value] != null && !region[value].intersects(other[value])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Numbers that between them land in every range the conditions on one value can mark out:
+    // each number the value is compared with and one on either side of them. Flags are only 0 or 1.
+    private static double[] testPoints(List<String> conditions, int value) {
+        if (value >= FIRST_FLAG) {
+            return new double[]{0, 1};
+        }
+        List<Double> constants = new ArrayList<>();
+        for (String condition : conditions) {
+            String[] parts = condition.split(" ");
+            if (indexOf(VALUES, parts[0]) == value) {
+                constants.add(Double.parseDouble(parts[2]));
+            }
+        }
+        if (constants.isEmpty()) {
+            return new double[0];
+        }
+        Collections.sort(constants);
+        double[] points = new double[2 * constants.size() + 1];
+        points[0] = constants.get(0) - 1;
+        for (int i = 0; i < constants.size(); i++) {
+            points[2 * i + 1] = constants.get(i);
+            points[2 * i + 2] = i + 1 < constants.size()
+                    ? (constants.get(i) + constants.get(i + 1)) / 2 : constants.get(i) + 1;
+        }
+        return points;
+    }
+
+    // A peril picks from its table, anything else names a single outcome
+    private static EventTable<PerilOutcome> toOutcome(String name) {
+        EventTable<PerilOutcome> table = Perils.getTable(name);
+        if (table != null) {
+            return table;
+        }
+        for (PerilOutcome outcome : PerilOutcome.values()) {
+            if (outcome.name().equals(name) && outcome != PerilOutcome.NOTHING) {
+                return new EventTable<PerilOutcome>().add(1, outcome);
+            }
+        }
+        return null;
+    }
+
+    // Writes a condition as "<value> <operator> <number>" so the same test is only compiled once
+    private static String toCondition(String condition) {
+        String[] parts = condition.split("\\s+");
+        if (parts.length == 1 && indexOf(VALUES, parts[0]) >= FIRST_FLAG) {
+            return parts[0] + " != 0";
+        }
+        if (parts.length == 2 && parts[0].equals("not") && indexOf(VALUES, parts[1]) >= FIRST_FLAG) {
+            return parts[1] + " == 0";
+        }
+        if (parts.length == 3 && indexOf(VALUES, parts[0]) >= 0 && indexOf(OPERATORS, parts[1]) >= 0) {
+            return parts[0] + " " + parts[1] + " " + Double.parseDouble(parts[2]);
+        }
+        return null;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Rolls once for a peril, given how the game stands.
+     * The outcome is not applied, so the caller can decide who it happens to.
+     *
+     * @param context The game session, whose random number generator is drawn from once
+     * @return The peril outcome, or PerilOutcome.NOTHING if no peril strikes
+     */
+    public PerilOutcome roll(GameContext context) {
+        long holding = evaluate(context);
+        EventTable<PerilOutcome> table = tables.get(holding);
+        if (table == null) {
+            if (tables.size() >= MAX_CACHED_TABLES) {
+                tables.clear();
+            }
+            table = compile(holding);
+            tables.put(holding, table);
+        }
+        return table.sample(context.getRandom());
+    }
+
+    // Sets bit i when condition i holds, reading each value that is tested once
+    private long evaluate(GameContext context) {
+        long holding = 0;
+        for (int value : testedValues) {
+            double reading = read(context, value);
+            for (int i : conditionsOfValue[value]) {
+                if (holds(reading, conditionOperator[i], conditionConstant[i])) {
+                    holding |= 1L << i;
+                }
+            }
+        }
+        return holding;
+    }
+
+    // Reads VALUES[value] from the game
+    private static double read(GameContext context, int value) {
+        switch (value) {
+            case 0:
+                return context.getWagon().getCondition();
+            case 1:
+                return context.getPlayer().getOxenHealth();
+            case 2:
+                return context.getPlayer().getHealth();
+            case 3:
+                return context.getInventory().getFoodAmount();
+            case 4:
+                return context.getMoney().getBalance();
+            case 5:
+                return context.getTime().getMonth();
+            case 6:
+                return context.getGameMap().getCurrentDistanceTraveled();
+            case 7:
+                return context.getWeather().getTemperature();
+            case 8:
+                return context.getWeather().isRaining() ? 1 : 0;
+            case 9:
+                return context.getWeather().isSnowing() ? 1 : 0;
+            case 10:
+                return context.getPlayer().isSick() ? 1 : 0;
+            default:
+                return context.getTime().isWinter() ? 1 : 0;
+        }
+    }
+
+    private static boolean holds(double value, int operator, double constant) {
+        switch (operator) {
+            case LESS:
+                return value < constant;
+            case LESS_OR_EQUAL:
+                return value <= constant;
+            case GREATER:
+                return value > constant;
+            case GREATER_OR_EQUAL:
+                return value >= constant;
+            case EQUAL:
+                return value == constant;
+            default:
+                return value != constant;
+        }
+    }
+
+    // Combines every rule whose conditions all hold, in file order, with no peril for the rest
+    private EventTable<PerilOutcome> compile(long holding) {
+        EventTable<PerilOutcome> table = new EventTable<>();
+        double total = 0;
+        for (int i = 0; i < ruleConditions.length; i++) {
+            if ((ruleConditions[i] & ~holding) == 0) {
+                table.addAll(ruleChance[i], ruleOutcomes.get(i));
+                total += ruleChance[i];
+            }
+        }
+        return table.add(Math.max(1 - total, 0), PerilOutcome.NOTHING);
+    }
+
+    public int getRuleCount() {
+        return ruleConditions.length;
+    }
+
+    public int getConditionCount() {
+        return conditionCount;
+    }
+}
@@ -11,11 +11,36 @@ package termProject;
  * @ date : 03/25/2025
  * @ file : perils.java
  */
-import java.util.Random;
-
 public class Perils {
+    // The chance of each outcome of a peril, as a percentage
+    static final EventTable<PerilOutcome> ACCIDENTS = new EventTable<PerilOutcome>()
+            .add(70, PerilOutcome.NOTHING)
+            .add(10, PerilOutcome.WAGON_DAMAGED)
+            .add(10, PerilOutcome.OX_INJURED)
+            .add(10, PerilOutcome.PLAYER_INJURED);
+    static final EventTable<PerilOutcome> ILLNESSES = new EventTable<PerilOutcome>()
+            .add(75, PerilOutcome.NOTHING)
+            .add(12.5, PerilOutcome.MEMBER_SICK)
+            .add(12.5, PerilOutcome.OX_SICK);
+    static final EventTable<PerilOutcome> PREGNANCIES = new EventTable<PerilOutcome>()
+            .add(85, PerilOutcome.NOTHING)
+            .add(15, PerilOutcome.PREGNANT);
+    static final EventTable<PerilOutcome> RIVER_CROSSINGS = new EventTable<PerilOutcome>()
+            .add(25, PerilOutcome.WAGON_STUCK)
+            .add(25, PerilOutcome.RIVER_CROSSED)
+            .add(50, PerilOutcome.RIVER_CALM);
+    static final EventTable<PerilOutcome> SUPPLY_PROBLEMS = new EventTable<PerilOutcome>()
+            .add(80, PerilOutcome.NOTHING)
+            .add(20.0 / 3, PerilOutcome.SUPPLIES_STOLEN)
+            .add(20.0 / 3, PerilOutcome.FOOD_RANCID)
+            .add(20.0 / 3, PerilOutcome.SUPPLIES_LOST);
+    static final EventTable<PerilOutcome> WEATHER = new EventTable<PerilOutcome>()
+            .add(70, PerilOutcome.NOTHING)
+            .add(15, PerilOutcome.STORM)
+            .add(15, PerilOutcome.HEAT);
+
     private Player player;  // The player involved in the peril events
-    private Random random;  // Random object to simulate chance events
+    private GameRandom random;  // Random object to simulate chance events
 
     /**
      * Constructor to initialize the Perils class with a player.
@@ -23,8 +48,18 @@ public class Perils {
      * @param player The player who will be affected by perils
      */
     public Perils(Player player) {
+        this(player, new GameRandom());
+    }
+
+    /**
+     * Constructor to initialize the Perils class with a player and a random number generator.
+     * 
+     * @param player The player who will be affected by perils
+     * @param random The random number generator for the game
+     */
+    public Perils(Player player, GameRandom random) {
         this.player = player;
-        this.random = new Random();
+        this.random = random;
     }
 
     /**
@@ -32,26 +67,7 @@ public class Perils {
      * Accidents can damage the wagon, injure oxen, or harm the player.
      */
     public void accident() {
-        int chance = random.nextInt(100);
-        if (chance < 30) {  // 30% chance of an accident
-            System.out.println("An accident occurred!");
-            // Example: Randomly choose what is damaged (Wagon, Ox, or Human)
-            int event = random.nextInt(3);
-            switch (event) {
-                case 0:
-                    System.out.println("The wagon was damaged! Repairing costs 20 dollars.");
-                    player.decreaseCurrency(20);
-                    break;
-                case 1:
-                    System.out.println("One of your oxen was injured! It needs rest.");
-                    player.decreaseOxHealth(10);  // Decreases ox health
-                    break;
-                case 2:
-                    System.out.println("You were injured! Lose 5 health.");
-                    player.takeDamage(5);  // Decrease player health
-                    break;
-            }
-        }
+        roll(ACCIDENTS);
     }
 
     /**
@@ -59,21 +75,7 @@ public class Perils {
      * Illnesses can affect humans or oxen, reducing their health.
      */
     public void illness() {
-        int chance = random.nextInt(100);
-        if (chance < 25) {  // 25% chance of illness
-            System.out.println("An illness has struck your group!");
-            int event = random.nextInt(2);
-            switch (event) {
-                case 0:
-                    System.out.println("A human member is sick! Lose 10 health.");
-                    player.takeDamage(10);  // Decrease player health
-                    break;
-                case 1:
-                    System.out.println("One of your oxen is sick! It loses 10 health.");
-                    player.decreaseOxHealth(10);  // Decrease ox health
-                    break;
-            }
-        }
+        roll(ILLNESSES);
     }
 
     /**
@@ -81,12 +83,7 @@ public class Perils {
      * Pregnancy temporarily reduces health due to the need for rest.
      */
     public void pregnancy() {
-        int chance = random.nextInt(100);
-        if (chance < 15) {  // 15% chance of pregnancy
-            System.out.println("A human member is pregnant! They will need rest.");
-            player.takeDamage(10);  // Decreases the human's health due to pregnancy
-            System.out.println("The human member's health is temporarily reduced by 10.");
-        }
+        roll(PREGNANCIES);
     }
 
     /**
@@ -94,19 +91,7 @@ public class Perils {
      * River crossings can damage the wagon, requiring repairs.
      */
     public void riverCrossing() {
-        int chance = random.nextInt(100);
-        if (chance < 50) {  // 50% chance of a difficult river crossing
-            System.out.println("You are crossing a river...");
-            if (random.nextInt(100) < 50) {
-                System.out.println("The wagon got stuck in the river!");
-                player.decreaseCurrency(10);  // Costs money to repair the wagon
-                System.out.println("Repairing the wagon costs 10 dollars.");
-            } else {
-                System.out.println("The crossing was successful!");
-            }
-        } else {
-            System.out.println("The river crossing was calm, no problems.");
-        }
+        roll(RIVER_CROSSINGS);
     }
 
     /**
@@ -114,37 +99,7 @@ public class Perils {
      * Supply issues can reduce food quantities or cost money.
      */
     public void supplies() {
-        int chance = random.nextInt(100);
-        if (chance < 20) {  // 20% chance of supply issue
-            System.out.println("There was a problem with your supplies!");
-            int event = random.nextInt(3);
-            switch (event) {
-                case 0:
-                    // Select the specific food item you want to decrease
-                    Food foodToSteal = player.getFoodType("Hay");  // Assuming player has "Hay" in their inventory
-                    if (foodToSteal != null) {
-                        System.out.println("Some of your supplies were stolen! You lost 10 food.");
-                        player.decreaseFood(foodToSteal, 10);  // Decrease the specific food item
-                    } else {
-                        System.out.println("You don't have any Hay to lose!");
-                    }
-                    break;
-                case 1:
-                    // Select the specific food item you want to decrease
-                    Food foodToRancid = player.getFoodType("Grain");  // Assuming player has "Grain" in their inventory
-                    if (foodToRancid != null) {
-                        System.out.println("Your food has gone rancid! You lost 5 food.");
-                        player.decreaseFood(foodToRancid, 5);  // Decrease the specific food item
-                    } else {
-                        System.out.println("You don't have any Grain to lose!");
-                    }
-                    break;
-                case 2:
-                    System.out.println("You lost some supplies! You lost 5 dollars.");
-                    player.decreaseCurrency(5);  // Lose money
-                    break;
-            }
-        }
+        roll(SUPPLY_PROBLEMS);
     }
 
     /**
@@ -152,23 +107,46 @@ public class Perils {
      * Bad weather can spoil food or affect the health of oxen.
      */
     public void weather() {
-        int chance = random.nextInt(100);
-        if (chance < 30) {  // 30% chance of bad weather
-            System.out.println("A weather event is happening!");
-            int event = random.nextInt(2);
-            switch (event) {
-                case 0:
-                    System.out.println("A storm has hit! You lose 10 food to spoilage.");
-                    player.decreaseFood(10);  // Food spoilage
-                    break;
-                case 1:
-                    System.out.println("Extreme heat has made your oxen lose health!");
-                    player.decreaseOxHealth(15);  // Oxen health decreases
-                    break;
-            }
+        roll(WEATHER);
+    }
+
+    /**
+     * Gets the table of outcomes for a peril.
+     *
+     * @param peril "accident", "illness", "pregnancy", "river", "supplies", or "weather"
+     * @return The peril's outcome table, or null if there is no such peril
+     */
+    static EventTable<PerilOutcome> getTable(String peril) {
+        switch (peril) {
+            case "accident":
+                return ACCIDENTS;
+            case "illness":
+                return ILLNESSES;
+            case "pregnancy":
+                return PREGNANCIES;
+            case "river":
+                return RIVER_CROSSINGS;
+            case "supplies":
+                return SUPPLY_PROBLEMS;
+            case "weather":
+                return WEATHER;
+            default:
+                return null;
         }
     }
 
+    /**
+     * Picks an outcome from a peril table with one random number and applies it to the player.
+     *
+     * @param table The peril table to pick from
+     * @return The outcome that happened
+     */
+    public PerilOutcome roll(EventTable<PerilOutcome> table) {
+        PerilOutcome outcome = table.sample(random);
+        outcome.apply(player, System.out::println);
+        return outcome;
+    }
+
     private void handleRandomEvent() {
             int eventType = random.nextInt(4);
             switch (eventType) {
@@ -197,7 +175,7 @@ public class Perils {
                 break;
             case 1:
                 System.out.println("Heavy storm damages supplies!");
-                player.getInventory().damageRandomItem();
+                player.getInventory().damageRandomItem(random);
                 break;
             case 2:
                 System.out.println("Severe weather causes significant problems!");
@@ -225,10 +203,10 @@ public class Perils {
     private void handleResourceEvent() {
         if (random.nextBoolean()) {
             System.out.println("Found abandoned supplies!");
-            player.getInventory().addRandomSupplies();
+            player.getInventory().addRandomSupplies(random);
         } else {
             System.out.println("Lost some supplies while crossing rough terrain.");
-            player.getInventory().loseRandomSupplies();
+            player.getInventory().loseRandomSupplies(random);
         }
     }
 }
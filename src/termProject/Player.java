@@ -10,21 +10,22 @@ package termProject;
  * @ date : 03/25/2025
  * @ file : player.java
  */
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 public class Player {
-    static public String name;
-    static public String gender;
-    static private double lastDamage = 0;
-    static private double currentDamage = 0;
-    static private Health playerHealth;
-    static private String causeOfDeath;
-    static private int hunger;
-    static private int playerFatigue;
-    static private boolean isSick;
-    static private String illness;
-    static Currency money;
-    static private Health health;
+    private String name;
+    private String gender;
+    private double lastDamage = 0;
+    private double currentDamage = 0;
+    private Health playerHealth;
+    private String causeOfDeath;
+    private int hunger;
+    private int playerFatigue;
+    private boolean isSick;
+    private String illness;
+    Currency money;
 
     ArrayList<Oxen> oxenList;
     ArrayList<Food> foodList;
@@ -61,6 +62,7 @@ public class Player {
         this();
         this.name = name;
         this.gender = gender;
+        this.money = new Currency((int) money);
     }
 
     /**
@@ -68,7 +70,7 @@ public class Player {
      *
      * @param nameInput The name to assign to the player
      */
-    public static void setName(String nameInput) {
+    public void setName(String nameInput) {
         name = nameInput;
     }
 
@@ -77,7 +79,7 @@ public class Player {
      *
      * @param genderInput The gender to assign to the player
      */
-    public static void setGender(String genderInput) {
+    public void setGender(String genderInput) {
         gender = genderInput;
     }
 
@@ -252,7 +254,7 @@ public class Player {
     public void displayStatus(){
         System.out.println("\n===== Player Status =====");
         System.out.println("Name: " + name);
-        System.out.println("Health: " + health);
+        System.out.println("Health: " + playerHealth.getCurrentHealth());
         System.out.println("Food: " + food + " lbs");
         System.out.println("Money: $" + money);
         System.out.println("=========================");
@@ -271,10 +273,10 @@ public class Player {
 
         switch (item.getName().toLowerCase()) {
             case "medicine":
-                if (health.getCurrentHealth() < 100) {
-                    health.heal(Math.min(health.getCurrentHealth() + 20, 100));
+                if (playerHealth.getCurrentHealth() < 100) {
+                    playerHealth.heal(Math.min(playerHealth.getCurrentHealth() + 20, 100));
                     inventory.removeItem(item, 1);
-                    System.out.println("You used medicine. Health is now: " + health);
+                    System.out.println("You used medicine. Health is now: " + playerHealth.getCurrentHealth());
                 } else {
                     System.out.println("Your health is already full.");
                 }
@@ -329,6 +331,15 @@ public class Player {
     	inventory.addItem(item, number);
     }
 
+    /**
+     * Gets the player's purse.
+     *
+     * @return The currency object holding the player's money
+     */
+    public Currency getMoney(){
+        return money;
+    }
+
     /**
      * Gets the player's current money balance.
      *
@@ -393,17 +404,27 @@ public class Player {
      * @param amount The amount of health to decrease
      */
     public void decreaseOxHealth(int amount) {
+        decreaseOxHealth(amount, System.out::println);
+    }
+
+    /**
+     * Decreases the health of all oxen in the player's team, sending what happened to a log.
+     *
+     * @param amount The amount of health to decrease
+     * @param log The receiver for messages about the oxen
+     */
+    public void decreaseOxHealth(int amount, Consumer<String> log) {
         if (oxenList.isEmpty()) {
-            System.out.println("You have no oxen to decrease health for.");
+            log.accept("You have no oxen to decrease health for.");
             return;
         }
 
         // Assuming you want to decrease health for all oxen equally
         for (Oxen ox : oxenList) {
             ox.takeDamage(amount);
-            System.out.println("One of your oxen's health has decreased by " + amount + " points.");
+            log.accept("One of your oxen's health has decreased by " + amount + " points.");
             if (ox.getHealth() == 0) {
-                System.out.println(ox.getName() + " has died.");
+                log.accept(ox.getName() + " has died.");
             }
         }
     }
@@ -498,7 +519,7 @@ public class Player {
     }
     
     public boolean checkGameOver() {
-        if (health.getCurrentHealth() <= 0) {
+        if (playerHealth.getCurrentHealth() <= 0) {
             causeOfDeath = "poor health";
             return true;
         }
@@ -506,7 +527,7 @@ public class Player {
             causeOfDeath = "starvation";
             return true;
         }
-        if (Wagon.isBroken() && Currency.getBalance() < 50) {
+        if (playerWagon != null && playerWagon.isBroken() && money.getBalance() < 50) {
             causeOfDeath = "broken wagon with insufficient funds for repair";
             return true;
         }
@@ -531,6 +552,15 @@ public class Player {
     public Wagon getWagon() {
          return playerWagon;
     }
+
+    /**
+     * Sets the wagon the player is traveling with.
+     *
+     * @param wagon The player's wagon
+     */
+    public void setWagon(Wagon wagon) {
+         this.playerWagon = wagon;
+    }
     
     public void increaseFatigue(double amount) {
          playerFatigue += amount;
@@ -549,9 +579,145 @@ public class Player {
         playerInventory.addItem(new Food("Rations", 1, 100), 50);      // 50 pounds of food
         playerInventory.addItem(new Weapon("Rifle", 5), 1);            // 1 rifle
         playerInventory.addItem(new Item("Ammunition", 1), 50);        // 50 ammunition
-        playerInventory.addItem(new Medicine("Medicine", 1, 5, 1), 3); // 3 medicine items
+        playerInventory.addItem(new Medicine("Medicine", 1, 5, 5), 3); // 3 medicine items
         
         // Set this inventory as the player's inventory
         this.setInventory(playerInventory);
     }
+
+    /**
+     * Writes the player's fields, wagon, oxen and food for a saved game.
+     * The inventory is saved separately.
+     *
+     * @param buffer The buffer to write to
+     */
+    void writeState(ByteBuffer buffer) {
+        GameStateCodec.putString(name, buffer);
+        GameStateCodec.putString(gender, buffer);
+        buffer.putDouble(lastDamage);
+        buffer.putDouble(currentDamage);
+        buffer.putInt(playerHealth.maxHealth);
+        buffer.putInt(playerHealth.currentHealth);
+        GameStateCodec.putString(causeOfDeath, buffer);
+        buffer.putInt(hunger);
+        buffer.putInt(playerFatigue);
+        GameStateCodec.putBoolean(isSick, buffer);
+        GameStateCodec.putString(illness, buffer);
+        buffer.putInt(money.getBalance());
+
+        buffer.putInt(oxenList.size());
+        for (Oxen ox : oxenList) {
+            ox.writeState(buffer);
+        }
+        buffer.putInt(foodList.size());
+        for (Food item : foodList) {
+            GameStateCodec.writeItem(item, buffer);
+        }
+        GameStateCodec.writeItem(food, buffer);
+        GameStateCodec.writeItem(weapon, buffer);
+
+        GameStateCodec.putBoolean(playerWagon != null, buffer);
+        if (playerWagon != null) {
+            playerWagon.writeState(buffer);
+        }
+    }
+
+    /**
+     * Reads the player's fields, wagon, oxen and food from a saved game.
+     *
+     * @param buffer The buffer to read from
+     */
+    void readState(ByteBuffer buffer) {
+        name = GameStateCodec.getString(buffer);
+        gender = GameStateCodec.getString(buffer);
+        lastDamage = buffer.getDouble();
+        currentDamage = buffer.getDouble();
+        playerHealth = new Health(buffer.getInt());
+        playerHealth.currentHealth = buffer.getInt();
+        causeOfDeath = GameStateCodec.getString(buffer);
+        hunger = buffer.getInt();
+        playerFatigue = buffer.getInt();
+        isSick = GameStateCodec.getBoolean(buffer);
+        illness = GameStateCodec.getString(buffer);
+        money = new Currency(buffer.getInt());
+
+        oxenList = new ArrayList<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            Oxen ox = new Oxen("", 0);
+            ox.readState(buffer);
+            oxenList.add(ox);
+        }
+        foodList = new ArrayList<>();
+        for (int i = buffer.getInt(); i > 0; i--) {
+            foodList.add((Food) GameStateCodec.readItem(buffer));
+        }
+        food = (Food) GameStateCodec.readItem(buffer);
+        weapon = (Weapon) GameStateCodec.readItem(buffer);
+
+        playerWagon = null;
+        if (GameStateCodec.getBoolean(buffer)) {
+            playerWagon = new Wagon();
+            playerWagon.readState(buffer);
+        }
+    }
+
+    /**
+     * Copies the player's health, money and wagon condition into a journal entry.
+     *
+     * @param values The entry to fill
+     * @param offset Where the player's values start in the entry
+     */
+    void saveProgress(int[] values, int offset) {
+        values[offset] = playerHealth.currentHealth;
+        values[offset + 1] = hunger;
+        values[offset + 2] = playerFatigue;
+        values[offset + 3] = money.getBalance();
+        values[offset + 4] = isSick ? 1 : 0;
+        values[offset + 5] = playerWagon != null ? (int) playerWagon.getCondition() : 0;
+        values[offset + 6] = playerWagon != null && playerWagon.isBroken() ? 1 : 0;
+    }
+
+    /**
+     * Restores the player's health, money and wagon condition from a journal entry.
+     *
+     * @param values The entry to read
+     * @param offset Where the player's values start in the entry
+     */
+    void restoreProgress(int[] values, int offset) {
+        playerHealth.currentHealth = values[offset];
+        hunger = values[offset + 1];
+        playerFatigue = values[offset + 2];
+        money.setBalance(values[offset + 3]);
+        isSick = values[offset + 4] != 0;
+        if (playerWagon != null) {
+            playerWagon.restoreCondition(values[offset + 5], values[offset + 6] != 0);
+        }
+    }
+
+    /**
+     * Copies the damage the player last took into a journal entry, each amount as the high
+     * and low halves of its bits so it comes back exactly.
+     *
+     * @param values The entry to fill
+     * @param offset Where the player's damage values start in the entry
+     */
+    void saveDamage(int[] values, int offset) {
+        long last = Double.doubleToLongBits(lastDamage);
+        long current = Double.doubleToLongBits(currentDamage);
+        values[offset] = (int) (last >>> 32);
+        values[offset + 1] = (int) last;
+        values[offset + 2] = (int) (current >>> 32);
+        values[offset + 3] = (int) current;
+    }
+
+    /**
+     * Restores the damage the player last took from a journal entry.
+     *
+     * @param values The entry to read
+     * @param offset Where the player's damage values start in the entry
+     */
+    void restoreDamage(int[] values, int offset) {
+        lastDamage = Double.longBitsToDouble((long) values[offset] << 32 | values[offset + 1] & 0xFFFFFFFFL);
+        currentDamage = Double.longBitsToDouble((long) values[offset + 2] << 32 | values[offset + 3] & 0xFFFFFFFFL);
+    }
 }
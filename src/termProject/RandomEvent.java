@@ -11,16 +11,27 @@ package termProject;
  * @ file : randomEvent.java
  */
 public class RandomEvent {
-    private int probability;
+    private double probability;
     String eventMessage;
+    protected GameRandom random;
 
     /**
      * Default constructor for random events.
      * Initializes a random event with zero probability and default message.
      */
     public RandomEvent() {
+        this(new GameRandom());
+    }
+
+    /**
+     * Constructor for random events that draw from the given generator.
+     * 
+     * @param random The random number generator for the game
+     */
+    public RandomEvent(GameRandom random) {
         probability = 0;
         eventMessage = "A random event has occurred!";
+        this.random = random;
     }
 
     /**
@@ -30,7 +41,7 @@ public class RandomEvent {
      * @return true if the event is triggered, false otherwise
      */
     public boolean triggerEvent() {
-        return Math.random() * 100 < probability;
+        return random.nextDouble() * 100 < probability;
     }
 
     /**
@@ -44,11 +55,11 @@ public class RandomEvent {
 
     /**
      * Sets the probability of the random event occurring.
-     * Only accepts values between 0 and 100 inclusive.
+     * Only accepts values between 0 and 100 inclusive, which may be fractions of a percent.
      * 
      * @param probability The percentage chance (0-100) of the event occurring
      */
-    public void setProbability(int probability) {
+    public void setProbability(double probability) {
         if (probability >= 0 && probability <= 100) {
             this.probability = probability;
         }
@@ -16,13 +16,42 @@ public class RiverCrossing extends RandomEvent {
 	private Weather currentWeather;
 	private Inventory inventory;
 
+    /**
+     * Default constructor for a river crossing with no known conditions.
+     */
+    public RiverCrossing() {
+    }
+
+    /**
+     * Constructor for a river crossing under the given weather.
+     * 
+     * @param currentWeather The weather at the crossing
+     * @param inventory The inventory that supplies are lost from on a failed crossing
+     */
+    public RiverCrossing(Weather currentWeather, Inventory inventory) {
+        this(currentWeather, inventory, new GameRandom());
+    }
+
+    /**
+     * Constructor for a river crossing that draws from the given generator.
+     * 
+     * @param currentWeather The weather at the crossing
+     * @param inventory The inventory that supplies are lost from on a failed crossing
+     * @param random The random number generator for the game
+     */
+    public RiverCrossing(Weather currentWeather, Inventory inventory, GameRandom random) {
+        super(random);
+        this.currentWeather = currentWeather;
+        this.inventory = inventory;
+    }
+
 	public void handleCrossing(Player player, Wagon wagon) {
         double depth = calculateRiverDepth();
         int width = calculateRiverWidth();
         
         if (depth > 3 || width > 100) {
             // Dangerous crossing
-            if (Math.random() < 0.3) {
+            if (random.nextDouble() < 0.3) {
                 wagon.updateCondition(-20);
                 player.takeDamage(10, "Drowning during river crossing");
             }
@@ -46,7 +75,7 @@ public class RiverCrossing extends RandomEvent {
         }
         
         // Random variation
-        depth += (Math.random() * 3);
+        depth += (random.nextDouble() * 3);
         
         return depth;
     }
@@ -65,7 +94,7 @@ public class RiverCrossing extends RandomEvent {
         }
         
         // Random variation
-        width += (int)(Math.random() * 30);
+        width += random.nextInt(30);
         
         return width;
     }
@@ -105,23 +134,23 @@ public class RiverCrossing extends RandomEvent {
         }
         
         // Random check for success
-        boolean success = (Math.random() * 100) < successChance;
+        boolean success = (random.nextDouble() * 100) < successChance;
         
         // Handle the consequences of failure
         if (!success) {
             // Lose some supplies
-            int suppliesLost = (int)(Math.random() * 10) + 5; // Lose between 5-15 supplies
+            int suppliesLost = random.nextInt(10) + 5; // Lose between 5-15 supplies
             while(suppliesLostCounter < suppliesLost) {
-                inventory.loseRandomSupplies();
+                inventory.loseRandomSupplies(random);
                 suppliesLostCounter++;
             }
             
             // Damage the wagon
-            int wagonDamage = (int)(Math.random() * 20) + 10; // 10-30 damage
+            int wagonDamage = random.nextInt(20) + 10; // 10-30 damage
             wagon.damage(wagonDamage);
             
             // Hurt the player
-            int healthLost = (int)(Math.random() * 15) + 5; // Lose between 5-20 health
+            int healthLost = random.nextInt(15) + 5; // Lose between 5-20 health
             player.takeDamage(healthLost);
         }
         
@@ -1,29 +1,52 @@
 package termProject;
 
-import java.io.*;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 
 public class SaveGame {
+    static final Path SAVE_DIRECTORY = Paths.get("saves");
+    static final Path AUTOSAVE_FILE = Paths.get("autosave.dat");
+
+    private final SaveStore store = new SaveStore(SAVE_DIRECTORY);
+
     public void saveGame(Player player, GameMap gameMap, Inventory inventory, Time gameTime) {
-        try (ObjectOutputStream out = new ObjectOutputStream(new FileOutputStream("savegame.dat"))) {
-            out.writeObject(player);
-            out.writeObject(gameMap);
-            out.writeObject(inventory);
-            out.writeObject(gameTime);
+        try {
+            store.save(SaveStore.playerSlot(player.getName()), new GameState(player, gameMap, inventory, gameTime));
         } catch (IOException e) {
             System.out.println("Error saving game: " + e.getMessage());
         }
     }
 
+    public List<SaveSlot> listSaves() {
+        return store.list();
+    }
+
     public GameState loadGame() {
-        try (ObjectInputStream in = new ObjectInputStream(new FileInputStream("savegame.dat"))) {
-            Player player = (Player) in.readObject();
-            GameMap gameMap = (GameMap) in.readObject();
-            Inventory inventory = (Inventory) in.readObject();
-            Time gameTime = (Time) in.readObject();
-            return new GameState(player, gameMap, inventory, gameTime);
-        } catch (IOException | ClassNotFoundException e) {
+        List<SaveSlot> saves = store.list();
+        if (saves.isEmpty()) {
+            System.out.println("Error loading game: there are no saved games");
+            return null;
+        }
+        return loadGame(saves.get(0).getName());
+    }
+
+    public GameState loadGame(String slotName) {
+        try {
+            return store.load(slotName);
+        } catch (IOException e) {
+            System.out.println("Error loading game: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public GameState loadAutosave() {
+        try {
+            return SaveJournal.load(AUTOSAVE_FILE);
+        } catch (IOException e) {
             System.out.println("Error loading game: " + e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,290 @@
+package termProject;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SaveJournal Class of the Perils Along the Platte Game
+ * Keeps a saved game up to date by appending only what changed since the last save.
+ * The journal file starts with a full snapshot of the game followed by small entries holding
+ * the player's new position, health, money, wagon condition, date and item quantities.
+ * A fresh snapshot replaces the journal every few days, or sooner if something an entry
+ * cannot describe changes, such as an item being gained or lost. If a snapshot cannot be
+ * written, no entries are appended until a later snapshot is, since they would describe
+ * changes from a snapshot the file does not hold. Loading reads the snapshot and replays
+ * the entries after it.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : saveJournal.java
+ */
+public class SaveJournal {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 30;
+
+    private static final byte SNAPSHOT = 1;
+    private static final byte DELTA = 2;
+
+    // Where each object's values start in a journal entry
+    private static final int MAP_VALUES = 0;
+    private static final int PLAYER_VALUES = 5;
+    private static final int TIME_VALUES = 12;
+    private static final int DAMAGE_VALUES = 17;
+    private static final int VALUE_COUNT = 21;
+    private static final int DAY_VALUE = TIME_VALUES;
+
+    private final Path file;
+    private final int snapshotInterval;
+
+    private int[] savedValues;
+    private Map<String, Integer> savedQuantities;
+    private List<Object> savedOutline;
+    private int daysSinceSnapshot;
+
+    // Set by the writer when a snapshot fails, until one is written
+    private volatile boolean snapshotNeeded;
+    private volatile boolean appending = true;
+
+    /**
+     * Constructor for a journal that takes a snapshot every DEFAULT_SNAPSHOT_INTERVAL days.
+     *
+     * @param file The journal file
+     */
+    public SaveJournal(Path file) {
+        this(file, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Constructor for a journal.
+     *
+     * @param file The journal file
+     * @param snapshotInterval How many days of changes to append before taking a new snapshot
+     */
+    public SaveJournal(Path file, int snapshotInterval) {
+        this.file = file;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Works out what needs to be saved for the game as it is now.
+     * This only reads the game, so it should be called from the thread that changes it.
+     *
+     * @param state The game to save
+     * @return The entry or snapshot to write, or null if nothing has changed
+     */
+    public synchronized ByteBuffer nextRecord(GameState state) {
+        int[] values = valuesOf(state);
+        Map<String, Integer> quantities = quantitiesOf(state.getInventory());
+        List<Object> outline = outlineOf(state);
+
+        if (savedValues != null && values[DAY_VALUE] != savedValues[DAY_VALUE]) {
+            daysSinceSnapshot++;
+        }
+        if (savedValues == null || daysSinceSnapshot >= snapshotInterval || !outline.equals(savedOutline)
+                || snapshotNeeded) {
+            snapshotNeeded = false;
+            remember(values, quantities, outline);
+            daysSinceSnapshot = 0;
+            return snapshot(state);
+        }
+
+        ByteBuffer record = delta(values, quantities);
+        remember(values, quantities, outline);
+        return record;
+    }
+
+    private void remember(int[] values, Map<String, Integer> quantities, List<Object> outline) {
+        savedValues = values;
+        savedQuantities = quantities;
+        savedOutline = outline;
+    }
+
+    private static ByteBuffer snapshot(GameState state) {
+        ByteBuffer encoded = GameStateCodec.encode(state);
+        ByteBuffer record = ByteBuffer.allocate(5 + encoded.remaining());
+        record.putInt(1 + encoded.remaining());
+        record.put(SNAPSHOT);
+        record.put(encoded);
+        record.flip();
+        return record;
+    }
+
+    private ByteBuffer delta(int[] values, Map<String, Integer> quantities) {
+        List<String> changedItems = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            if (!entry.getValue().equals(savedQuantities.get(entry.getKey()))) {
+                changedItems.add(entry.getKey());
+            }
+        }
+        int changedValues = 0;
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            if (values[i] != savedValues[i]) {
+                changedValues++;
+            }
+        }
+        if (changedValues == 0 && changedItems.isEmpty()) {
+            return null;
+        }
+
+        ByteBuffer record = ByteBuffer.allocate(64);
+        while (true) {
+            try {
+                record.clear();
+                record.putInt(0);
+                record.put(DELTA);
+                record.put((byte) changedValues);
+                for (int i = 0; i < VALUE_COUNT; i++) {
+                    if (values[i] != savedValues[i]) {
+                        record.put((byte) i);
+                        record.putInt(values[i]);
+                    }
+                }
+                record.putShort((short) changedItems.size());
+                for (String name : changedItems) {
+                    GameStateCodec.putString(name, record);
+                    record.putInt(quantities.get(name));
+                }
+                record.putInt(0, record.position() - 4);
+                record.flip();
+                return record;
+            } catch (BufferOverflowException e) {
+                record = ByteBuffer.allocate(record.capacity() * 2);
+            }
+        }
+    }
+
+    /**
+     * Writes a record made by nextRecord.
+     * A snapshot replaces the journal safely, and an entry is appended to the end of it.
+     * Records must be written in the order they were made. After a snapshot fails, entries
+     * are skipped and the next call to nextRecord makes a new snapshot.
+     *
+     * @param record The record to write
+     * @throws IOException If the journal cannot be written
+     */
+    public void write(ByteBuffer record) throws IOException {
+        if (record.get(4) == SNAPSHOT) {
+            appending = false;
+            try {
+                GameStateCodec.write(record, file);
+            } catch (IOException e) {
+                snapshotNeeded = true;
+                throw e;
+            }
+            appending = true;
+            return;
+        }
+        if (!appending) {
+            return;
+        }
+        ByteBuffer buffer = record.duplicate();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Loads a game from a journal by reading its snapshot and replaying the entries after it.
+     * An entry cut short by a crash is ignored.
+     *
+     * @param file The journal file
+     * @return The saved game as of the last complete entry
+     * @throws IOException If the file cannot be read or does not start with a snapshot
+     */
+    public static GameState load(Path file) throws IOException {
+        ByteBuffer buffer = GameStateCodec.readFully(file);
+        if (buffer.remaining() < 5 || buffer.get(4) != SNAPSHOT) {
+            throw new IOException("Not a save journal");
+        }
+
+        GameState state = null;
+        int[] values = new int[VALUE_COUNT];
+        while (buffer.remaining() >= 4) {
+            int length = buffer.getInt();
+            if (length < 1 || length > buffer.remaining()) {
+                break;
+            }
+            ByteBuffer record = buffer.slice();
+            record.limit(length);
+            buffer.position(buffer.position() + length);
+
+            if (record.get() == SNAPSHOT) {
+                state = GameStateCodec.decode(record);
+                values = valuesOf(state);
+            } else {
+                replay(record, state, values);
+            }
+        }
+        return state;
+    }
+
+    private static void replay(ByteBuffer record, GameState state, int[] values) throws IOException {
+        try {
+            for (int i = record.get(); i > 0; i--) {
+                int index = record.get();
+                values[index] = record.getInt();
+            }
+            state.getMap().restoreProgress(values, MAP_VALUES);
+            state.getPlayer().restoreProgress(values, PLAYER_VALUES);
+            state.getTime().restoreProgress(values, TIME_VALUES);
+            state.getPlayer().restoreDamage(values, DAMAGE_VALUES);
+
+            for (int i = record.getShort(); i > 0; i--) {
+                Item item = state.getInventory().getItemInUse(GameStateCodec.getString(record));
+                int quantity = record.getInt();
+                if (item != null) {
+                    item.setQuantity(quantity);
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Save journal is damaged", e);
+        }
+    }
+
+    private static int[] valuesOf(GameState state) {
+        int[] values = new int[VALUE_COUNT];
+        state.getMap().saveProgress(values, MAP_VALUES);
+        state.getPlayer().saveProgress(values, PLAYER_VALUES);
+        state.getTime().saveProgress(values, TIME_VALUES);
+        state.getPlayer().saveDamage(values, DAMAGE_VALUES);
+        return values;
+    }
+
+    private static Map<String, Integer> quantitiesOf(Inventory inventory) {
+        Map<String, Integer> quantities = new HashMap<>();
+        for (int i = 0; i < inventory.inventory; i++) {
+            quantities.put(inventory.items[i].getName(), inventory.items[i].getQuantity());
+        }
+        return quantities;
+    }
+
+    // Everything a journal entry cannot change, so a difference here needs a new snapshot
+    private static List<Object> outlineOf(GameState state) {
+        Player player = state.getPlayer();
+        Inventory inventory = state.getInventory();
+        List<Object> outline = new ArrayList<>(Arrays.asList(state.getMap().getTrailType(),
+                state.getMap().getLandmarkArraySize(), player.getName(), player.getIllness(),
+                player.getCauseOfDeath(), player.getOxenCount(), player.getWagon() != null));
+        for (int i = 0; i < inventory.inventory; i++) {
+            outline.add(inventory.items[i].getName());
+        }
+        return outline;
+    }
+}
@@ -0,0 +1,107 @@
+package termProject;
+
+import java.nio.ByteBuffer;
+
+/**
+ * SaveSlot Class of the Perils Along the Platte Game
+ * Describes one saved game in a save store without loading it.
+ * Holds just enough to show the save in a load menu: who was playing, where and when.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : saveSlot.java
+ */
+public class SaveSlot {
+    private final String name;
+    private final String playerName;
+    private final String trailType;
+    private final String date;
+    private final int distanceTraveled;
+    private final int health;
+    private final long savedAt;
+
+    /**
+     * Constructor for a save slot with all attributes.
+     *
+     * @param name The name of the slot in its store
+     * @param playerName The name of the player in the save
+     * @param trailType The trail being traveled
+     * @param date The game date when the save was made
+     * @param distanceTraveled The miles covered along the trail
+     * @param health The player's health
+     * @param savedAt When the save was made, in milliseconds since 1970
+     */
+    public SaveSlot(String name, String playerName, String trailType, String date, int distanceTraveled, int health,
+                    long savedAt) {
+        this.name = name;
+        this.playerName = playerName;
+        this.trailType = trailType;
+        this.date = date;
+        this.distanceTraveled = distanceTraveled;
+        this.health = health;
+        this.savedAt = savedAt;
+    }
+
+    /**
+     * Constructor for a description of a game being saved now.
+     *
+     * @param name The name of the slot in its store
+     * @param state The game being saved
+     */
+    public SaveSlot(String name, GameState state) {
+        this(name, state.getPlayer().getName(), state.getMap().getTrailType(), state.getTime().getDate(),
+                state.getMap().getCurrentDistanceTraveled(), (int) state.getPlayer().getHealth(),
+                System.currentTimeMillis());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public String getTrailType() {
+        return trailType;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public int getDistanceTraveled() {
+        return distanceTraveled;
+    }
+
+    public int getHealth() {
+        return health;
+    }
+
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    void writeState(ByteBuffer buffer) {
+        GameStateCodec.putString(name, buffer);
+        GameStateCodec.putString(playerName, buffer);
+        GameStateCodec.putString(trailType, buffer);
+        GameStateCodec.putString(date, buffer);
+        buffer.putInt(distanceTraveled);
+        buffer.putInt(health);
+        buffer.putLong(savedAt);
+    }
+
+    static SaveSlot readState(ByteBuffer buffer) {
+        return new SaveSlot(GameStateCodec.getString(buffer), GameStateCodec.getString(buffer),
+                GameStateCodec.getString(buffer), GameStateCodec.getString(buffer), buffer.getInt(), buffer.getInt(),
+                buffer.getLong());
+    }
+
+    @Override
+    public String toString() {
+        return playerName + " - " + trailType + " Trail, " + date + ", " + distanceTraveled + " miles, "
+                + health + "% health";
+    }
+}
@@ -0,0 +1,276 @@
+package termProject;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SaveStore Class of the Perils Along the Platte Game
+ * Keeps any number of saved games in one folder, each in its own named slot.
+ * A small index file describes every slot, so the saves can be listed without reading them.
+ * Each save file starts with the name of its slot, so the index can be rebuilt from the saves
+ * if it is damaged. A game is only decoded when its slot is loaded.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : saveStore.java
+ */
+public class SaveStore {
+    public static final int AUTOSAVE_GENERATIONS = 3;
+
+    private static final String INDEX_FILE = "index.dat";
+    private static final String SAVE_EXTENSION = ".sav";
+    private static final int MAGIC = 0x50415049; // "PAPI"
+    private static final short VERSION = 1;
+    private static final int SLOT_MAGIC = 0x5041534C; // "PASL"
+
+    private final Path directory;
+    private Map<String, SaveSlot> slots;
+
+    /**
+     * Constructor for a save store.
+     * Nothing is read until the saves are first listed, loaded or changed.
+     *
+     * @param directory The folder holding the saves, created when the first game is saved
+     */
+    public SaveStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Lists the saved games, most recent first.
+     *
+     * @return The descriptions of every save in the store
+     */
+    public synchronized List<SaveSlot> list() {
+        List<SaveSlot> list = new ArrayList<>(index().values());
+        list.sort((a, b) -> Long.compare(b.getSavedAt(), a.getSavedAt()));
+        return list;
+    }
+
+    /**
+     * Gets the description of a saved game.
+     *
+     * @param slotName The slot name
+     * @return The slot or null if nothing is saved under that name
+     */
+    public synchronized SaveSlot getSlot(String slotName) {
+        return index().get(slotName);
+    }
+
+    /**
+     * Saves a game into a slot, replacing any game already saved there.
+     *
+     * @param slotName The slot name
+     * @param state The game to save
+     * @return The description of the new save
+     * @throws IOException If the save or the index cannot be written
+     */
+    public SaveSlot save(String slotName, GameState state) throws IOException {
+        SaveSlot slot = new SaveSlot(slotName, state);
+        save(slot, GameStateCodec.encode(state));
+        return slot;
+    }
+
+    /**
+     * Saves an already encoded game into the slot it describes.
+     * Slot names are turned into file names by replacing anything but letters, digits, '_'
+     * and '-', so a name that would share another save's file is refused.
+     *
+     * @param slot The description of the save
+     * @param encoded The encoded game
+     * @throws IOException If the save or the index cannot be written, or another save has the same file
+     */
+    public synchronized void save(SaveSlot slot, ByteBuffer encoded) throws IOException {
+        // The index is read before the save is written, so a rebuild never finds the new save twice
+        Path file = fileFor(slot.getName());
+        for (SaveSlot other : index().values()) {
+            if (!other.getName().equals(slot.getName()) && fileFor(other.getName()).equals(file)) {
+                throw new IOException("Cannot save " + slot.getName() + ": the name is too close to the save "
+                        + other.getName());
+            }
+        }
+
+        Files.createDirectories(directory);
+        byte[] name = slot.getName().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + name.length + encoded.remaining());
+        buffer.putInt(SLOT_MAGIC);
+        GameStateCodec.putString(slot.getName(), buffer);
+        buffer.put(encoded.duplicate());
+        buffer.flip();
+        GameStateCodec.write(buffer, file);
+        index().put(slot.getName(), slot);
+        writeIndex();
+    }
+
+    /**
+     * Loads the game saved in a slot.
+     *
+     * @param slotName The slot name
+     * @return The saved game
+     * @throws IOException If there is no such save or it cannot be read
+     */
+    public GameState load(String slotName) throws IOException {
+        if (getSlot(slotName) == null) {
+            throw new IOException("No game saved in " + slotName);
+        }
+        ByteBuffer buffer = GameStateCodec.readFully(fileFor(slotName));
+        readSlotName(buffer, slotName);
+        return GameStateCodec.decode(buffer);
+    }
+
+    // Reads the slot name a save file starts with, leaving the buffer at the saved game.
+    // Saves made before slot names were stored have none, and keep the name they were found under.
+    private static String readSlotName(ByteBuffer buffer, String unnamed) throws IOException {
+        if (buffer.remaining() < 8 || buffer.getInt(buffer.position()) != SLOT_MAGIC) {
+            return unnamed;
+        }
+        buffer.getInt();
+        try {
+            return GameStateCodec.getString(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Save file is damaged", e);
+        }
+    }
+
+    /**
+     * Deletes the game saved in a slot.
+     *
+     * @param slotName The slot name
+     * @throws IOException If the save or the index cannot be changed
+     */
+    public synchronized void delete(String slotName) throws IOException {
+        if (index().remove(slotName) != null) {
+            Files.deleteIfExists(fileFor(slotName));
+            writeIndex();
+        }
+    }
+
+    /**
+     * Gets the slot for a player's own save.
+     *
+     * @param playerName The player's name
+     * @return The slot name
+     */
+    public static String playerSlot(String playerName) {
+        return "player-" + playerName;
+    }
+
+    /**
+     * Picks the autosave slot to write next: an unused generation if there is one,
+     * otherwise the oldest autosave.
+     *
+     * @return The slot name
+     */
+    public synchronized String nextAutosaveSlot() {
+        String oldest = null;
+        for (int generation = 1; generation <= AUTOSAVE_GENERATIONS; generation++) {
+            String slotName = "autosave-" + generation;
+            SaveSlot slot = index().get(slotName);
+            if (slot == null) {
+                return slotName;
+            }
+            if (oldest == null || slot.getSavedAt() < index().get(oldest).getSavedAt()) {
+                oldest = slotName;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * Gets the file a slot is saved in.
+     *
+     * @param slotName The slot name
+     * @return The save file
+     */
+    public Path fileFor(String slotName) {
+        return directory.resolve(slotName.replaceAll("[^A-Za-z0-9_-]", "_") + SAVE_EXTENSION);
+    }
+
+    private Map<String, SaveSlot> index() {
+        if (slots == null) {
+            slots = readIndex();
+        }
+        return slots;
+    }
+
+    private Map<String, SaveSlot> readIndex() {
+        Map<String, SaveSlot> index = new LinkedHashMap<>();
+        Path file = directory.resolve(INDEX_FILE);
+        if (!Files.isDirectory(directory)) {
+            return index;
+        }
+        if (!Files.exists(file)) {
+            // Saves made before the index, or after it was deleted, are found by reading them
+            return rebuildIndex();
+        }
+        try {
+            ByteBuffer buffer = GameStateCodec.readFully(file);
+            if (buffer.remaining() < 10 || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+                throw new IOException("Not a save index");
+            }
+            for (int i = buffer.getInt(); i > 0; i--) {
+                SaveSlot slot = SaveSlot.readState(buffer);
+                index.put(slot.getName(), slot);
+            }
+            return index;
+        } catch (IOException | BufferUnderflowException e) {
+            System.out.println("Error reading save index: " + e.getMessage());
+        }
+        return rebuildIndex();
+    }
+
+    // Describes every save in the folder by reading each one, for when the index is lost
+    private Map<String, SaveSlot> rebuildIndex() {
+        Map<String, SaveSlot> index = new LinkedHashMap<>();
+        try (DirectoryStream<Path> saves = Files.newDirectoryStream(directory, "*" + SAVE_EXTENSION)) {
+            for (Path save : saves) {
+                String fileName = save.getFileName().toString();
+                try {
+                    ByteBuffer buffer = GameStateCodec.readFully(save);
+                    String slotName = readSlotName(buffer,
+                            fileName.substring(0, fileName.length() - SAVE_EXTENSION.length()));
+                    SaveSlot slot = new SaveSlot(slotName, GameStateCodec.decode(buffer));
+                    index.put(slotName, new SaveSlot(slotName, slot.getPlayerName(), slot.getTrailType(),
+                            slot.getDate(), slot.getDistanceTraveled(), slot.getHealth(),
+                            Files.getLastModifiedTime(save).toMillis()));
+                } catch (IOException e) {
+                    System.out.println("Error reading " + fileName + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Error listing saves: " + e.getMessage());
+        }
+        return index;
+    }
+
+    private void writeIndex() throws IOException {
+        int size = 1024;
+        while (true) {
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            try {
+                buffer.putInt(MAGIC);
+                buffer.putShort(VERSION);
+                buffer.putInt(slots.size());
+                for (SaveSlot slot : slots.values()) {
+                    slot.writeState(buffer);
+                }
+                buffer.flip();
+                GameStateCodec.write(buffer, directory.resolve(INDEX_FILE));
+                return;
+            } catch (BufferOverflowException e) {
+                size *= 2;
+            }
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package termProject;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * SaveWriter Class of the Perils Along the Platte Game
+ * Writes saved games on a background thread so saving never holds up the game window.
+ * The game is encoded straight away, which only takes a few microseconds, and the bytes are
+ * handed to a single writer thread. If several saves of the same file are waiting, only the
+ * newest one is written.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : saveWriter.java
+ */
+public class SaveWriter {
+    private static final long CLOSE_TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "Save writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Path, PendingSave> pending = new ConcurrentHashMap<>();
+    private final Consumer<String> log;
+
+    /**
+     * Constructor for a save writer.
+     *
+     * @param log The receiver for messages about finished or failed saves, called on the writer thread
+     */
+    public SaveWriter(Consumer<String> log) {
+        this.log = log;
+    }
+
+    /**
+     * Saves a game in the background and reports when it has been written.
+     * The game is captured as it is now, so it can keep changing while the save is written.
+     *
+     * @param state The game to save
+     * @param file The file to save to
+     */
+    public void save(GameState state, Path file) {
+        submit(file, new PendingSave(GameStateCodec.encode(state), true, null, null));
+    }
+
+    /**
+     * Saves a game into a slot of a save store in the background and reports when it has been written.
+     *
+     * @param store The save store
+     * @param slotName The slot to save into
+     * @param state The game to save
+     */
+    public void save(SaveStore store, String slotName, GameState state) {
+        submit(store.fileFor(slotName), new PendingSave(GameStateCodec.encode(state), true, store,
+                new SaveSlot(slotName, state)));
+    }
+
+    /**
+     * Saves a game in the background without reporting success, for saves made automatically.
+     *
+     * @param state The game to save
+     * @param file The file to save to
+     */
+    public void autosave(GameState state, Path file) {
+        submit(file, new PendingSave(GameStateCodec.encode(state), false, null, null));
+    }
+
+    /**
+     * Records the game in a save journal in the background.
+     * What changed is worked out straight away, and journal records are written in the order
+     * they were made, without being merged.
+     *
+     * @param journal The journal to record the game in
+     * @param state The game to save
+     */
+    public void journal(SaveJournal journal, GameState state) {
+        ByteBuffer record = journal.nextRecord(state);
+        if (record == null) {
+            return;
+        }
+        writer.execute(() -> {
+            try {
+                journal.write(record);
+            } catch (IOException e) {
+                log.accept("Error saving game: " + e.getMessage());
+            }
+        });
+    }
+
+    private void submit(Path file, PendingSave save) {
+        boolean[] alreadyQueued = new boolean[1];
+        pending.compute(file, (key, waiting) -> {
+            alreadyQueued[0] = waiting != null;
+            return waiting != null && waiting.announce && !save.announce
+                    ? new PendingSave(save.encoded, true, save.store, save.slot) : save;
+        });
+        if (!alreadyQueued[0]) {
+            writer.execute(() -> writePending(file));
+        }
+    }
+
+    private void writePending(Path file) {
+        PendingSave save = pending.remove(file);
+        if (save == null) {
+            return;
+        }
+        try {
+            if (save.store != null) {
+                save.store.save(save.slot, save.encoded);
+            } else {
+                GameStateCodec.write(save.encoded, file);
+            }
+            if (save.announce) {
+                log.accept("Game saved to " + (save.slot != null ? save.slot.getName() : file.getFileName()) + ".");
+            }
+        } catch (IOException e) {
+            log.accept("Error saving game: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Finishes any saves still waiting and stops the writer thread.
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            writer.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The newest encoded game waiting to be written to a file, and the store slot it belongs to if any.
+     */
+    private static class PendingSave {
+        final ByteBuffer encoded;
+        final boolean announce;
+        final SaveStore store;
+        final SaveSlot slot;
+
+        PendingSave(ByteBuffer encoded, boolean announce, SaveStore store, SaveSlot slot) {
+            this.encoded = encoded;
+            this.announce = announce;
+            this.store = store;
+            this.slot = slot;
+        }
+    }
+}
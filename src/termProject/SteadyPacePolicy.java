@@ -0,0 +1,60 @@
+package termProject;
+
+/**
+ * SteadyPacePolicy Class of the Perils Along the Platte Game
+ * A simple decision policy that travels at a fixed pace every day.
+ * Rests when health is low, always hunts when asked and pays for safe crossings when it can.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : steadyPacePolicy.java
+ */
+public class SteadyPacePolicy implements DecisionPolicy {
+    private final int milesPerDay;
+    private final int restBelowHealth;
+
+    /**
+     * Constructor for a policy that travels 15 miles a day and rests below 30 health.
+     */
+    public SteadyPacePolicy() {
+        this(15, 30);
+    }
+
+    /**
+     * Constructor for a policy with a custom pace and rest threshold.
+     *
+     * @param milesPerDay The number of miles to attempt each day
+     * @param restBelowHealth The health below which the party rests
+     */
+    public SteadyPacePolicy(int milesPerDay, int restBelowHealth) {
+        this.milesPerDay = milesPerDay;
+        this.restBelowHealth = restBelowHealth;
+    }
+
+    @Override
+    public int milesToTravel(TrailSimulation simulation) {
+        return milesPerDay;
+    }
+
+    @Override
+    public boolean shouldRest(TrailSimulation simulation) {
+        return simulation.getPlayer().getHealth() < restBelowHealth;
+    }
+
+    @Override
+    public boolean shouldHunt(TrailSimulation simulation) {
+        return true;
+    }
+
+    @Override
+    public int chooseRiverCrossing(TrailSimulation simulation) {
+        if (simulation.getMoney().getBalance() >= 10) {
+            return GUIDE;
+        }
+        if (simulation.getMoney().getBalance() >= 5) {
+            return FERRY;
+        }
+        return FORD;
+    }
+}
@@ -11,15 +11,19 @@ package termProject;
  * @ file : time.java
  */
 import java.lang.*;
+import java.nio.ByteBuffer;
 
 public class Time {
-    public static String month;
-    public static String day;
-    public static String year;
-    public static String hour;
-    public static String minute;
-    public static String[] monthName = new String[] {"March", "April", "May", "June", "July"};
-    public static int monthNum;
+    public String month;
+    public String day;
+    public String year;
+    public String hour;
+    public String minute;
+    public static final String[] monthName = new String[] {"March", "April", "May", "June", "July"};
+    public int monthNum;
+    public static final int FIRST_DEPARTURE_MONTH = 3; // monthName[0] is March
+    private static final String[] calendarMonthName = new String[] {"January", "February", "March", "April", "May", "June",
+            "July", "August", "September", "October", "November", "December"};
     
     // Added variables for time progression
     private int currentDay;
@@ -46,7 +50,13 @@ public class Time {
         
         // Initialize current time values
         this.currentDay = Integer.parseInt(day);
-        this.currentMonth = monthNum;
+        this.currentMonth = 1;
+        for (int i = 0; i < calendarMonthName.length; i++) {
+            if (calendarMonthName[i].equalsIgnoreCase(month)) {
+                this.currentMonth = i + 1;
+            }
+        }
+        this.monthNum = currentMonth;
         this.currentYear = Integer.parseInt(year);
         this.currentHour = Integer.parseInt(hour);
     }
@@ -57,14 +67,19 @@ public class Time {
      * @param monthNum1 The month value as a string
      */
     public Time(int monthNum1){
-        monthNum = monthNum1;
         this.month = monthName[monthNum1];
         
         // Initialize with default values
         this.currentDay = 1;
-        this.currentMonth = monthNum1;
+        this.currentMonth = monthNum1 + FIRST_DEPARTURE_MONTH;
+        this.monthNum = currentMonth;
         this.currentYear = 1847;
         this.currentHour = 6;
+
+        this.day = String.valueOf(currentDay);
+        this.year = String.valueOf(currentYear);
+        this.hour = String.valueOf(currentHour);
+        this.minute = "00";
     }
 
     /**
@@ -78,7 +93,7 @@ public class Time {
         this.currentYear = 1847;
         this.currentHour = 6;
         
-        this.month = monthName[currentMonth - 1];
+        this.month = calendarMonthName[currentMonth - 1];
         this.day = String.valueOf(currentDay);
         this.year = String.valueOf(currentYear);
         this.hour = String.valueOf(currentHour);
@@ -157,20 +172,89 @@ public class Time {
         }
         // Update string representations
         this.day = String.valueOf(currentDay);
-        this.month = monthName[currentMonth - 1];
+        this.month = calendarMonthName[currentMonth - 1];
         this.year = String.valueOf(currentYear);
         this.monthNum = currentMonth;
     }
 
     public String getDate() {
-        return String.format("%s %d, %d", monthName[currentMonth - 1], currentDay, currentYear);
+        return String.format("%s %d, %d", calendarMonthName[currentMonth - 1], currentDay, currentYear);
     }
 
     public boolean isWinter() {
         return currentMonth == 12 || currentMonth <= 2;
     }
 
-    public static void setMonthNum(int monthNum1) {
+    public void setMonthNum(int monthNum1) {
         monthNum = monthNum1;
     }
+
+    /**
+     * Writes the date and time for a saved game.
+     *
+     * @param buffer The buffer to write to
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.putInt(currentDay);
+        buffer.putInt(currentMonth);
+        buffer.putInt(currentYear);
+        buffer.putInt(currentHour);
+        GameStateCodec.putString(minute, buffer);
+        buffer.putInt(monthNum);
+    }
+
+    /**
+     * Reads the date and time from a saved game.
+     *
+     * @param buffer The buffer to read from
+     */
+    void readState(ByteBuffer buffer) {
+        currentDay = buffer.getInt();
+        currentMonth = buffer.getInt();
+        currentYear = buffer.getInt();
+        currentHour = buffer.getInt();
+        minute = GameStateCodec.getString(buffer);
+        monthNum = buffer.getInt();
+        if (currentMonth < 1 || currentMonth > 12) {
+            throw new IllegalArgumentException("Invalid month " + currentMonth);
+        }
+
+        this.month = calendarMonthName[currentMonth - 1];
+        this.day = String.valueOf(currentDay);
+        this.year = String.valueOf(currentYear);
+        this.hour = String.valueOf(currentHour);
+    }
+
+    /**
+     * Copies the date and hour into a journal entry.
+     *
+     * @param values The entry to fill
+     * @param offset Where the time's values start in the entry
+     */
+    void saveProgress(int[] values, int offset) {
+        values[offset] = currentDay;
+        values[offset + 1] = currentMonth;
+        values[offset + 2] = currentYear;
+        values[offset + 3] = currentHour;
+        values[offset + 4] = monthNum;
+    }
+
+    /**
+     * Restores the date and hour from a journal entry.
+     *
+     * @param values The entry to read
+     * @param offset Where the time's values start in the entry
+     */
+    void restoreProgress(int[] values, int offset) {
+        currentDay = values[offset];
+        currentMonth = values[offset + 1];
+        currentYear = values[offset + 2];
+        currentHour = values[offset + 3];
+        monthNum = values[offset + 4];
+
+        this.month = calendarMonthName[currentMonth - 1];
+        this.day = String.valueOf(currentDay);
+        this.year = String.valueOf(currentYear);
+        this.hour = String.valueOf(currentHour);
+    }
 }
@@ -0,0 +1,64 @@
+package termProject;
+
+import java.util.List;
+
+/**
+ * Trail Class of the Perils Along the Platte Game
+ * An unchangeable description of one trail west.
+ * Holds the trail's name, start and end, length and distance-sorted landmarks.
+ * A single Trail is shared by every game traveling it.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : trail.java
+ */
+public final class Trail {
+    private final String name;
+    private final String startLocation;
+    private final String endLocation;
+    private final int totalDistance;
+    private final LandmarkIndex landmarks;
+
+    /**
+     * Constructor for a trail with all attributes.
+     *
+     * @param name The trail type ("Oregon", "California", or "Mormon")
+     * @param startLocation The name of the starting location
+     * @param endLocation The name of the destination
+     * @param totalDistance The length of the trail in miles
+     * @param landmarks The landmarks along the trail
+     */
+    public Trail(String name, String startLocation, String endLocation, int totalDistance, List<Landmark> landmarks) {
+        this.name = name;
+        this.startLocation = startLocation;
+        this.endLocation = endLocation;
+        this.totalDistance = totalDistance;
+        this.landmarks = new LandmarkIndex(landmarks);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getStartLocation() {
+        return startLocation;
+    }
+
+    public String getEndLocation() {
+        return endLocation;
+    }
+
+    public int getTotalDistance() {
+        return totalDistance;
+    }
+
+    /**
+     * Gets the distance-sorted index of the trail's landmarks.
+     *
+     * @return The landmark index
+     */
+    public LandmarkIndex getLandmarkIndex() {
+        return landmarks;
+    }
+}
@@ -0,0 +1,99 @@
+package termProject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * TrailCatalog Class of the Perils Along the Platte Game
+ * The shared, read-only collection of trails that games can travel.
+ * trails.txt is split by trail the first time any trail is asked for, and each standard trail
+ * is only read when it is first asked for. Further trails can be loaded from compiled trail
+ * files. Every game reuses the same Trail objects, so starting a game never copies landmark data.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : trailCatalog.java
+ */
+public final class TrailCatalog {
+    private static final String STANDARD_TRAILS = "trails.txt";
+    private static final List<TrailFile> loadedFiles = new CopyOnWriteArrayList<>();
+
+    private TrailCatalog() {
+    }
+
+    /**
+     * Gets the trail with the given name.
+     * Trails from the most recently loaded file are preferred over the standard trails.
+     *
+     * @param trailType The trail type ("Oregon", "California", "Mormon", or a loaded trail)
+     * @return The shared trail, or null if there is no trail with that name
+     */
+    public static Trail getTrail(String trailType) {
+        for (TrailFile file : loadedFiles) {
+            Trail trail = file.getTrail(trailType);
+            if (trail != null) {
+                return trail;
+            }
+        }
+        String definition = StandardTrails.DEFINITIONS.get(trailType);
+        if (definition == null) {
+            return null;
+        }
+        return StandardTrails.TRAILS.computeIfAbsent(trailType, name -> readStandardTrail(definition));
+    }
+
+    /**
+     * Adds the trails in a compiled trail file to the catalog.
+     * The file is memory-mapped and each trail is decoded only when it is first used.
+     *
+     * @param compiledFile The compiled trail file
+     * @return The opened trail file
+     * @throws IOException If the file cannot be read or is not a compiled trail file
+     */
+    public static TrailFile load(Path compiledFile) throws IOException {
+        TrailFile file = TrailFile.open(compiledFile);
+        loadedFiles.add(0, file);
+        return file;
+    }
+
+    // Only loaded, and trails.txt split by trail, on first use
+    private static final class StandardTrails {
+        static final Map<String, String> DEFINITIONS = readStandardTrails();
+        static final Map<String, Trail> TRAILS = new ConcurrentHashMap<>();
+    }
+
+    private static Map<String, String> readStandardTrails() {
+        try (InputStream in = TrailCatalog.class.getResourceAsStream(STANDARD_TRAILS)) {
+            if (in == null) {
+                throw new IOException(STANDARD_TRAILS + " not found");
+            }
+            try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                return Collections.unmodifiableMap(TrailFile.splitText(reader));
+            }
+        } catch (IOException e) {
+            System.out.println("Error loading trails: " + e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    // Returns null, so the trail is tried again next time, if its definition is malformed
+    private static Trail readStandardTrail(String definition) {
+        try {
+            return TrailFile.readText(new StringReader(definition)).get(0);
+        } catch (IOException e) {
+            System.out.println("Error loading trails: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package termProject;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TrailFile Class of the Perils Along the Platte Game
+ * Reads and writes trail definitions stored outside the program.
+ * Trails are written by hand in a text format and compiled to a binary file that is memory-mapped
+ * when loaded. Each trail in a binary file is only decoded when it is first asked for, and landmark
+ * descriptions stay in the file until they are read.
+ *
+ * Text format, one record per line, fields separated by '|' and '#' starting a comment:
+ *   trail|name|start location|destination|total distance
+ *   landmark|name|x|y|distance|has river|is trade post|description|historical info|climate
+ * Landmark lines belong to the trail line above them. The climate is optional and names the
+ * Climate of the trail from that landmark on.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : trailFile.java
+ */
+public class TrailFile {
+    private static final int MAGIC = 0x54524C31; // "TRL1"
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+    private static final int TRAIL_RECORD_SIZE = 24;
+    private static final int LANDMARK_RECORD_SIZE = 28;
+    private static final int RIVER = 1;
+    private static final int TRADE_POST = 2;
+    private static final int CLIMATE_SHIFT = 8; // flag bits 8 to 15 hold the climate's ordinal + 1, or 0 for none
+
+    private final ByteBuffer buffer;
+    private final Map<String, Integer> trailRecords = new LinkedHashMap<>();
+    private final Map<String, Trail> trails = new ConcurrentHashMap<>();
+
+    private TrailFile(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled trail file");
+        }
+        if (buffer.getShort(4) != VERSION) {
+            throw new IOException("Unsupported trail file version " + buffer.getShort(4));
+        }
+        int trailCount = buffer.getInt(8);
+        checkRange(HEADER_SIZE, trailCount, TRAIL_RECORD_SIZE);
+        for (int i = 0; i < trailCount; i++) {
+            int record = HEADER_SIZE + i * TRAIL_RECORD_SIZE;
+            checkRecord(record);
+            trailRecords.put(readString(buffer.getInt(record)), record);
+        }
+    }
+
+    // Checks everything a trail record points at, so decoding the trail later cannot run off the file
+    private void checkRecord(int record) throws IOException {
+        checkString(buffer.getInt(record));
+        checkString(buffer.getInt(record + 4));
+        checkString(buffer.getInt(record + 8));
+        int landmarkCount = buffer.getInt(record + 16);
+        int firstLandmark = buffer.getInt(record + 20);
+        checkRange(firstLandmark, landmarkCount, LANDMARK_RECORD_SIZE);
+        for (int i = 0; i < landmarkCount; i++) {
+            int landmark = firstLandmark + i * LANDMARK_RECORD_SIZE;
+            checkString(buffer.getInt(landmark));
+            if (buffer.getInt(landmark + 12) > LandmarkIndex.MAX_DISTANCE) {
+                throw new IOException("Landmark at offset " + landmark + " is more than "
+                        + LandmarkIndex.MAX_DISTANCE + " miles along the trail");
+            }
+            checkString(buffer.getInt(landmark + 20));
+            checkString(buffer.getInt(landmark + 24));
+        }
+    }
+
+    // Checks that count records of the given size starting at offset lie within the file
+    private void checkRange(int offset, int count, int size) throws IOException {
+        if (offset < 0 || count < 0 || offset + (long) count * size > buffer.limit()) {
+            throw new IOException("Truncated trail file: data at offset " + offset + " runs past the end");
+        }
+    }
+
+    private void checkString(int offset) throws IOException {
+        checkRange(offset, 1, Integer.BYTES);
+        checkRange(offset + Integer.BYTES, buffer.getInt(offset), 1);
+    }
+
+    /**
+     * Opens a compiled trail file by mapping it into memory.
+     * Only the list of trail names is read until a trail is asked for.
+     *
+     * @param file The compiled trail file
+     * @return The opened trail file
+     * @throws IOException If the file cannot be read or is not a compiled trail file
+     */
+    public static TrailFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new TrailFile(buffer);
+        }
+    }
+
+    /**
+     * Gets the names of the trails in this file.
+     *
+     * @return The trail names in file order
+     */
+    public Set<String> getTrailNames() {
+        return Collections.unmodifiableSet(trailRecords.keySet());
+    }
+
+    /**
+     * Gets a trail from this file, decoding it the first time it is asked for.
+     *
+     * @param name The trail name
+     * @return The trail or null if the file has no trail with that name
+     */
+    public Trail getTrail(String name) {
+        Integer record = trailRecords.get(name);
+        if (record == null) {
+            return null;
+        }
+        return trails.computeIfAbsent(name, key -> decodeTrail(record));
+    }
+
+    private Trail decodeTrail(int record) {
+        String name = readString(buffer.getInt(record));
+        String start = readString(buffer.getInt(record + 4));
+        String end = readString(buffer.getInt(record + 8));
+        int totalDistance = buffer.getInt(record + 12);
+        int landmarkCount = buffer.getInt(record + 16);
+        int firstLandmark = buffer.getInt(record + 20);
+
+        List<Landmark> landmarks = new ArrayList<>(landmarkCount);
+        for (int i = 0; i < landmarkCount; i++) {
+            int landmark = firstLandmark + i * LANDMARK_RECORD_SIZE;
+            int flags = buffer.getInt(landmark + 16);
+            int climate = (flags >>> CLIMATE_SHIFT) & 0xFF;
+            landmarks.add(new Landmark(readString(buffer.getInt(landmark)),
+                    buffer.getInt(landmark + 4),
+                    buffer.getInt(landmark + 8),
+                    buffer.getInt(landmark + 12),
+                    new TrailText(buffer, buffer.getInt(landmark + 20)),
+                    new TrailText(buffer, buffer.getInt(landmark + 24)),
+                    (flags & RIVER) != 0,
+                    (flags & TRADE_POST) != 0,
+                    climate > 0 && climate <= Climate.values().length ? Climate.values()[climate - 1] : null));
+        }
+        return new Trail(name, start, end, totalDistance, landmarks);
+    }
+
+    private String readString(int offset) {
+        return new TrailText(buffer, offset).get();
+    }
+
+    /**
+     * Splits trails written in the text format into the text of each trail, without reading
+     * any landmark. Each trail's text keeps the line breaks that came before it, so reading it
+     * with readText reports the same line numbers as reading the whole source.
+     *
+     * @param source The text to split
+     * @return The text of each trail by name, in the order they were written
+     * @throws IOException If the text cannot be read or a trail line is malformed
+     */
+    public static Map<String, String> splitText(Reader source) throws IOException {
+        Map<String, String> trails = new LinkedHashMap<>();
+        BufferedReader reader = new BufferedReader(source);
+
+        String name = null;
+        StringBuilder text = new StringBuilder();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.trim();
+            if (trimmed.startsWith("trail|")) {
+                String[] fields = trimmed.split("\\|", -1);
+                if (fields.length != 5) {
+                    throw new IOException("Unrecognized trail definition on line " + lineNumber);
+                }
+                if (name != null) {
+                    trails.put(name, text.toString());
+                }
+                name = fields[1];
+                text.setLength(0);
+                text.append("\n".repeat(lineNumber - 1));
+            } else if (name == null && !trimmed.isEmpty() && !trimmed.startsWith("#")) {
+                throw new IOException("Unrecognized trail definition on line " + lineNumber);
+            }
+            text.append(line).append('\n');
+        }
+        if (name != null) {
+            trails.put(name, text.toString());
+        }
+        return trails;
+    }
+
+    /**
+     * Reads trails written in the text format.
+     *
+     * @param source The text to read
+     * @return The trails in the order they were written
+     * @throws IOException If the text cannot be read or a line is malformed
+     */
+    public static List<Trail> readText(Reader source) throws IOException {
+        List<Trail> trails = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(source);
+
+        String[] trail = null;
+        List<Landmark> landmarks = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+
+            String[] fields = line.split("\\|", -1);
+            try {
+                if (fields[0].equals("trail") && fields.length == 5) {
+                    if (trail != null) {
+                        trails.add(toTrail(trail, landmarks));
+                    }
+                    trail = fields;
+                    landmarks = new ArrayList<>();
+                } else if (fields[0].equals("landmark") && (fields.length == 9 || fields.length == 10) && trail != null) {
+                    Climate climate = null;
+                    if (fields.length == 10 && !fields[9].isEmpty()) {
+                        try {
+                            climate = Climate.valueOf(fields[9]);
+                        } catch (IllegalArgumentException e) {
+                            throw new IOException("Unknown climate " + fields[9] + " on line " + lineNumber);
+                        }
+                    }
+                    int distance = Integer.parseInt(fields[4]);
+                    if (distance > LandmarkIndex.MAX_DISTANCE) {
+                        throw new IOException("Landmark more than " + LandmarkIndex.MAX_DISTANCE
+                                + " miles along the trail on line " + lineNumber);
+                    }
+                    landmarks.add(new Landmark(fields[1], Integer.parseInt(fields[2]), Integer.parseInt(fields[3]),
+                            distance, TrailText.of(fields[7]), TrailText.of(fields[8]),
+                            Boolean.parseBoolean(fields[5]), Boolean.parseBoolean(fields[6]), climate));
+                } else {
+                    throw new IOException("Unrecognized trail definition on line " + lineNumber);
+                }
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid number on line " + lineNumber + ": " + e.getMessage());
+            }
+        }
+        if (trail != null) {
+            trails.add(toTrail(trail, landmarks));
+        }
+        return trails;
+    }
+
+    private static Trail toTrail(String[] fields, List<Landmark> landmarks) {
+        return new Trail(fields[1], fields[2], fields[3], Integer.parseInt(fields[4]), landmarks);
+    }
+
+    /**
+     * Writes trails to a compiled trail file.
+     * Repeated text is stored only once.
+     *
+     * @param trails The trails to write
+     * @param file The file to write to
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(List<Trail> trails, Path file) throws IOException {
+        int landmarkCount = 0;
+        for (Trail trail : trails) {
+            landmarkCount += trail.getLandmarkIndex().size();
+        }
+        int firstLandmark = HEADER_SIZE + trails.size() * TRAIL_RECORD_SIZE;
+        int stringPool = firstLandmark + landmarkCount * LANDMARK_RECORD_SIZE;
+
+        StringPool strings = new StringPool(stringPool);
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+
+        out.writeInt(MAGIC);
+        out.writeShort(VERSION);
+        out.writeShort(0);
+        out.writeInt(trails.size());
+        out.writeInt(stringPool);
+
+        int nextLandmark = firstLandmark;
+        for (Trail trail : trails) {
+            out.writeInt(strings.offsetOf(trail.getName()));
+            out.writeInt(strings.offsetOf(trail.getStartLocation()));
+            out.writeInt(strings.offsetOf(trail.getEndLocation()));
+            out.writeInt(trail.getTotalDistance());
+            out.writeInt(trail.getLandmarkIndex().size());
+            out.writeInt(nextLandmark);
+            nextLandmark += trail.getLandmarkIndex().size() * LANDMARK_RECORD_SIZE;
+        }
+
+        for (Trail trail : trails) {
+            for (Landmark landmark : trail.getLandmarkIndex().getLandmarks()) {
+                out.writeInt(strings.offsetOf(landmark.getName()));
+                out.writeInt(landmark.getX());
+                out.writeInt(landmark.getY());
+                out.writeInt(landmark.getDistance());
+                out.writeInt((landmark.hasRiver() ? RIVER : 0) | (landmark.isTradePost() ? TRADE_POST : 0)
+                        | (landmark.getClimate() != null ? landmark.getClimate().ordinal() + 1 : 0) << CLIMATE_SHIFT);
+                out.writeInt(strings.offsetOf(landmark.getDescription()));
+                out.writeInt(strings.offsetOf(landmark.getHistoricalInfo()));
+            }
+        }
+        out.flush();
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer[] contents = {ByteBuffer.wrap(records.toByteArray()), ByteBuffer.wrap(strings.toByteArray())};
+            while (contents[1].hasRemaining()) {
+                channel.write(contents);
+            }
+        }
+    }
+
+    /**
+     * Compiles a text trail definition into a binary trail file.
+     *
+     * @param textFile The text definition to read
+     * @param binaryFile The compiled file to write
+     * @throws IOException If either file cannot be used
+     */
+    public static void compile(Path textFile, Path binaryFile) throws IOException {
+        try (Reader reader = Files.newBufferedReader(textFile, StandardCharsets.UTF_8)) {
+            write(readText(reader), binaryFile);
+        }
+    }
+
+    /**
+     * Compiles a trail definition from the command line.
+     *
+     * @param args The text file to read and the binary file to write
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.out.println("Usage: java termProject.TrailFile <trails.txt> <trails.dat>");
+            return;
+        }
+        try {
+            compile(Paths.get(args[0]), Paths.get(args[1]));
+        } catch (IOException e) {
+            System.out.println("Error compiling trails: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Collects the text of a trail file, storing each distinct string once.
+     */
+    private static class StringPool {
+        private final int start;
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        StringPool(int start) {
+            this.start = start;
+        }
+
+        int offsetOf(String text) throws IOException {
+            Integer offset = offsets.get(text);
+            if (offset == null) {
+                offset = start + out.size();
+                byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(encoded.length);
+                out.write(encoded);
+                offsets.put(text, offset);
+            }
+            return offset;
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
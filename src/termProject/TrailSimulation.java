@@ -0,0 +1,348 @@
+package termProject;
+
+import java.util.function.Consumer;
+
+/**
+ * TrailSimulation Class of the Perils Along the Platte Game
+ * Runs a complete journey along a trail without any user interface.
+ * Applies the same travel, peril, hunting, weather and river crossing rules as the game window,
+ * asking a DecisionPolicy wherever the game would otherwise show a dialog.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : trailSimulation.java
+ */
+public class TrailSimulation {
+    private static final int PARTY_SIZE = 1;
+    private static final int LOW_FOOD = 50;
+    private static final int MAX_RIVER_WAITS = 10;
+    private static final PerilRules PERIL_RULES = PerilRules.standard(1);
+
+    private final String trailType;
+    private final int departureMonth;
+    private final DecisionPolicy policy;
+    private final GameRandom random;
+    private Consumer<String> log = message -> { };
+    private WagonTrain wagonTrain;
+
+    private final GameContext context;
+    private final Player player;
+    private final GameMap gameMap;
+    private final Inventory inventory;
+    private final Wagon wagon;
+    private final Time gameTime;
+    private final Weather weather;
+    private final Currency money;
+    private final Hunting huntingSystem;
+    private final Movement movement;
+
+    private int daysTraveled = 0;
+    private boolean finished = false;
+    private boolean arrived = false;
+    private String causeOfDeath;
+
+    /**
+     * Constructor for a simulation of one journey with an unpredictable seed.
+     *
+     * @param trailType The trail to travel ("Oregon", "California", or "Mormon")
+     * @param departureMonth The departure month as an index into Time.monthName
+     * @param policy The policy that makes the player's decisions
+     */
+    public TrailSimulation(String trailType, int departureMonth, DecisionPolicy policy) {
+        this(trailType, departureMonth, policy, new GameRandom().getSeed());
+    }
+
+    /**
+     * Constructor for a simulation of one journey.
+     * Sets up a fresh player, wagon, inventory and map for the chosen trail.
+     * The same seed and policy always replay the same journey.
+     *
+     * @param trailType The trail to travel ("Oregon", "California", or "Mormon")
+     * @param departureMonth The departure month as an index into Time.monthName
+     * @param policy The policy that makes the player's decisions
+     * @param seed The seed for every random event on the journey
+     */
+    public TrailSimulation(String trailType, int departureMonth, DecisionPolicy policy, long seed) {
+        this.trailType = trailType;
+        this.departureMonth = departureMonth;
+        this.policy = policy;
+        this.random = new GameRandom(seed);
+
+        context = new GameContext(random);
+        player = context.getPlayer();
+        gameMap = context.getGameMap();
+        inventory = context.getInventory();
+        wagon = context.getWagon();
+        gameTime = context.getTime();
+        weather = context.getWeather();
+        money = context.getMoney();
+        huntingSystem = context.getHuntingSystem();
+        movement = context.getMovement();
+
+        gameTime.setTime(1, departureMonth + Time.FIRST_DEPARTURE_MONTH);
+        gameMap.setTrail(trailType, trailType.equals("Mormon") ? "Nauvoo, Illinois" : "Independence, Missouri");
+        weather.setClimate(gameMap.getClimate());
+        weather.updateWeather(gameTime);
+    }
+
+    /**
+     * Sets where messages about the journey are sent.
+     * By default messages are discarded.
+     *
+     * @param log The receiver for journey messages
+     */
+    public void setLog(Consumer<String> log) {
+        this.log = log;
+    }
+
+    /**
+     * Travels as a wagon train, whose members and oxen fall ill, are injured, tire, rest and
+     * eat in place of the single party, and whose oxen set the pace. The journey ends if
+     * everyone in the train dies, and the train cannot move once all of its oxen have died.
+     *
+     * @param wagonTrain The wagon train, or null to travel as a single party
+     */
+    public void setWagonTrain(WagonTrain wagonTrain) {
+        this.wagonTrain = wagonTrain;
+        movement.setWagonTrain(wagonTrain);
+    }
+
+    public WagonTrain getWagonTrain() {
+        return wagonTrain;
+    }
+
+    /**
+     * Runs the journey to completion.
+     *
+     * @return The outcome of the journey
+     */
+    public JourneyResult run() {
+        while (step()) {
+            // keep traveling until the journey ends
+        }
+        return getResult();
+    }
+
+    /**
+     * Simulates a single day on the trail.
+     *
+     * @return true if the journey continues, false if it has ended
+     */
+    public boolean step() {
+        if (finished) {
+            return false;
+        }
+
+        if (policy.shouldRest(this) || !canTravel()) {
+            player.rest();
+            if (wagonTrain != null) {
+                wagonTrain.rest();
+                wagonTrain.feedOxen();
+            }
+            log.accept("You rest for the day. Health is now " + player.getHealth() + "%");
+        } else {
+            int distance = movement.travelTrail(policy.milesToTravel(this));
+            log.accept("Traveled " + distance + " miles.");
+
+            if (gameMap.checkLandmark(distance)) {
+                handleLandmark(gameMap.getLastLandmarkReached());
+            }
+            processTravelEvents();
+            if (wagonTrain != null) {
+                endTrainDay(distance);
+            } else {
+                inventory.consumeDailyRations(PARTY_SIZE);
+            }
+        }
+        advanceDay();
+        checkGameConditions();
+        return !finished;
+    }
+
+    private void processTravelEvents() {
+        PerilOutcome outcome = PERIL_RULES.roll(context);
+        String struck = wagonTrain != null && outcome != PerilOutcome.NOTHING ? wagonTrain.strike(outcome) : null;
+        if (struck != null) {
+            log.accept(struck);
+        } else if (outcome != PerilOutcome.NOTHING) {
+            outcome.apply(player, log);
+            log.accept("Health is now " + player.getHealth() + "%");
+        }
+
+        weather.setClimate(gameMap.getClimate());
+        weather.updateWeather(gameTime);
+
+        // Ask about hunting if food is low
+        if (inventory.getFoodAmount() < LOW_FOOD && random.nextDouble() < 0.5 && policy.shouldHunt(this)) {
+            hunt();
+        }
+    }
+
+    private void endTrainDay(int distance) {
+        wagonTrain.travel(distance);
+        int died = wagonTrain.workOxen();
+        if (died > 0) {
+            log.accept(died + " of your oxen died from exhaustion.");
+        }
+        wagonTrain.feedOxen();
+        if (!wagonTrain.endDay(inventory)) {
+            log.accept("There was not enough food for the wagon train today.");
+        }
+    }
+
+    // A wagon train cannot move once all of its oxen have died
+    private boolean canTravel() {
+        return wagonTrain == null || wagonTrain.getOxenCount() == 0 || wagonTrain.getOxenAlive() > 0;
+    }
+
+    private void hunt() {
+        int foodBefore = inventory.getFoodAmount();
+        huntingSystem.hunt(message -> { });
+        int foodAfter = inventory.getFoodAmount();
+
+        if (foodAfter > foodBefore) {
+            log.accept("Hunting successful! Added " + (foodAfter - foodBefore) + " pounds of food.");
+        } else {
+            log.accept("Hunting unsuccessful. No food gained.");
+        }
+        advanceDay();
+    }
+
+    private void handleLandmark(Landmark landmark) {
+        if (landmark == null) {
+            return;
+        }
+        log.accept("You have reached " + landmark.getName());
+        if (landmark.hasRiver()) {
+            crossRiver();
+        }
+    }
+
+    private void crossRiver() {
+        for (int waits = 0; ; waits++) {
+            int choice = waits < MAX_RIVER_WAITS ? policy.chooseRiverCrossing(this) : DecisionPolicy.FORD;
+
+            switch (choice) {
+                case DecisionPolicy.FERRY:
+                    if (money.getBalance() >= 5) {
+                        money.removeMoney(5);
+                        log.accept("You paid $5 to use the ferry and crossed safely.");
+                        return;
+                    }
+                    log.accept("You don't have enough money for the ferry! You must choose another option.");
+                    break;
+                case DecisionPolicy.GUIDE:
+                    if (money.getBalance() >= 10) {
+                        money.removeMoney(10);
+                        log.accept("You paid $10 for a guide and crossed safely.");
+                        return;
+                    }
+                    log.accept("You don't have enough money for a guide! You must choose another option.");
+                    break;
+                case DecisionPolicy.WAIT:
+                    advanceDay();
+                    player.heal(5);
+                    log.accept("You wait a day for better conditions. The water level has gone down slightly.");
+                    break;
+                default:
+                    RiverCrossing crossing = new RiverCrossing(weather, inventory, random);
+                    if (crossing.fordRiver(player, wagon)) {
+                        log.accept("You successfully forded the river!");
+                    } else {
+                        log.accept("The river was too dangerous! You lost supplies and health.");
+                    }
+                    return;
+            }
+        }
+    }
+
+    private void advanceDay() {
+        gameTime.advanceDay();
+        daysTraveled++;
+    }
+
+    private void checkGameConditions() {
+        if (wagonTrain != null && wagonTrain.getMembersAlive() == 0) {
+            causeOfDeath = "hardship";
+            finished = true;
+            log.accept("Game Over: Everyone in your wagon train has died.");
+        } else if (player.getHealth() <= 0) {
+            causeOfDeath = player.getCauseOfDeath() != null ? player.getCauseOfDeath() : "poor health";
+            finished = true;
+            log.accept("Game Over: You have died from " + causeOfDeath);
+        } else if (gameMap.getCurrentDistanceTraveled() >= gameMap.getTotalDistance()) {
+            arrived = true;
+            finished = true;
+            log.accept("Congratulations! You've reached " + gameMap.getCurrentLandmark() + "!");
+        } else if (gameTime.isWinter()) {
+            causeOfDeath = "winter";
+            finished = true;
+            log.accept("Game Over: Winter has arrived before reaching your destination.");
+        }
+    }
+
+    /**
+     * Gets the outcome of the journey so far.
+     *
+     * @return The journey result
+     */
+    public JourneyResult getResult() {
+        return new JourneyResult(random.getSeed(), trailType, departureMonth, arrived, causeOfDeath, daysTraveled, gameTime.getDate(),
+                gameMap.getCurrentDistanceTraveled(), inventory.getFoodAmount(), money.getBalance());
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public int getDaysTraveled() {
+        return daysTraveled;
+    }
+
+    /**
+     * Gets the game session this journey runs in.
+     *
+     * @return The journey's game context
+     */
+    public GameContext getContext() {
+        return context;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public GameMap getGameMap() {
+        return gameMap;
+    }
+
+    public Inventory getInventory() {
+        return inventory;
+    }
+
+    public Wagon getWagon() {
+        return wagon;
+    }
+
+    public Time getTime() {
+        return gameTime;
+    }
+
+    public Weather getWeather() {
+        return weather;
+    }
+
+    public Currency getMoney() {
+        return money;
+    }
+
+    /**
+     * Gets the random number generator for this journey.
+     *
+     * @return The journey's generator
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+}
@@ -0,0 +1,72 @@
+package termProject;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * TrailText Class of the Perils Along the Platte Game
+ * A piece of landmark text that is only decoded when it is first read.
+ * Text from a compiled trail file stays as bytes in the mapped file until the game needs it.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : trailText.java
+ */
+public final class TrailText {
+    private final ByteBuffer source;
+    private final int offset;
+    private volatile String text;
+
+    private TrailText(String text) {
+        this.source = null;
+        this.offset = 0;
+        this.text = text;
+    }
+
+    /**
+     * Constructor for text stored in a buffer as a length followed by UTF-8 bytes.
+     *
+     * @param source The buffer holding the text
+     * @param offset The position of the text's length in the buffer
+     */
+    TrailText(ByteBuffer source, int offset) {
+        this.source = source;
+        this.offset = offset;
+    }
+
+    /**
+     * Wraps text that is already decoded.
+     *
+     * @param text The text
+     * @return The trail text
+     */
+    public static TrailText of(String text) {
+        return new TrailText(text);
+    }
+
+    /**
+     * Gets the text, decoding it the first time it is asked for.
+     *
+     * @return The text
+     */
+    public String get() {
+        String decoded = text;
+        if (decoded == null) {
+            byte[] bytes = new byte[source.getInt(offset)];
+            source.get(offset + Integer.BYTES, bytes);
+            decoded = new String(bytes, StandardCharsets.UTF_8);
+            text = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Returns the text.
+     *
+     * @return The text
+     */
+    public String toString() {
+        return get();
+    }
+}
@@ -0,0 +1,242 @@
+package termProject;
+
+import java.util.function.Consumer;
+
+/**
+ * TravelClock Class of the Perils Along the Platte Game
+ * Runs continuous travel along the trail one game hour at a time.
+ * Each hour the wagon moves at a pace set by the oxen, wagon and weather, the perils of the
+ * trail are rolled, and at midnight the party eats and the weather changes. Real time is turned
+ * into whole hours at the chosen speed, from 1 to 10,000 game hours per second. Every hour is
+ * worked out the same way whatever the speed, so a seed always gives the same journey.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : travelClock.java
+ */
+public class TravelClock {
+    public static final int MIN_SPEED = 1;
+    public static final int MAX_SPEED = 10000;
+    public static final long NANOS_PER_HOUR = 1_000_000_000L; // one game hour each second at 1x
+
+    private static final int TRAVEL_START_HOUR = 8;
+    private static final int TRAVEL_END_HOUR = 18;
+    private static final int PARTY_SIZE = 1;
+    private static final int MAX_HOURS_PER_ADVANCE = 24 * 30; // stops a slow machine from falling ever further behind
+
+    // The peril rules with their daily chances spread over 24 hours
+    private static final PerilRules HOURLY_PERILS = PerilRules.standard(24);
+
+    private final Player player;
+    private final GameMap gameMap;
+    private final Inventory inventory;
+    private final Time gameTime;
+    private final Weather weather;
+    private final Movement movement;
+    private final GameContext context;
+    private Consumer<String> log = message -> { };
+    private WagonTrain wagonTrain;
+
+    private int speed = MIN_SPEED;
+    private long pendingNanos;
+    private long hoursElapsed;
+    private int daysTraveled;
+    private Landmark landmarkReached;
+    private boolean finished;
+
+    /**
+     * Constructor for a travel clock that moves a game session along its trail.
+     *
+     * @param context The game session
+     */
+    public TravelClock(GameContext context) {
+        player = context.getPlayer();
+        gameMap = context.getGameMap();
+        inventory = context.getInventory();
+        gameTime = context.getTime();
+        weather = context.getWeather();
+        movement = context.getMovement();
+        this.context = context;
+        weather.setClimate(gameMap.getClimate());
+    }
+
+    /**
+     * Sets where messages about the journey are sent.
+     * By default messages are discarded.
+     *
+     * @param log The receiver for journey messages
+     */
+    public void setLog(Consumer<String> log) {
+        this.log = log;
+    }
+
+    /**
+     * Travels as a wagon train, whose members and oxen fall ill, are injured, tire and eat in
+     * place of the single party, and whose oxen set the pace. Travel stops if every ox in the
+     * train dies.
+     *
+     * @param wagonTrain The wagon train, or null to travel as a single party
+     */
+    public void setWagonTrain(WagonTrain wagonTrain) {
+        this.wagonTrain = wagonTrain;
+        movement.setWagonTrain(wagonTrain);
+    }
+
+    /**
+     * Sets how many game hours pass for each second of real time.
+     *
+     * @param speed The speed, from MIN_SPEED to MAX_SPEED
+     */
+    public void setSpeed(int speed) {
+        this.speed = Math.max(MIN_SPEED, Math.min(MAX_SPEED, speed));
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Runs the hours that are due after some real time has passed.
+     * Time left over that does not make a whole hour is kept for the next call. Travel stops
+     * by itself at a landmark and when the journey ends.
+     *
+     * @param elapsedNanos The real time that has passed since the last call, in nanoseconds
+     * @return The number of game hours run
+     */
+    public int advance(long elapsedNanos) {
+        if (isStopped()) {
+            pendingNanos = 0;
+            return 0;
+        }
+        pendingNanos += elapsedNanos * speed;
+        long due = pendingNanos / NANOS_PER_HOUR;
+        pendingNanos -= due * NANOS_PER_HOUR;
+        if (due > MAX_HOURS_PER_ADVANCE) {
+            due = MAX_HOURS_PER_ADVANCE;
+            pendingNanos = 0;
+        }
+
+        int hours = 0;
+        while (hours < due && !isStopped()) {
+            tick();
+            hours++;
+        }
+        return hours;
+    }
+
+    /**
+     * Runs one game hour.
+     */
+    public void tick() {
+        if (finished) {
+            return;
+        }
+        int hour = gameTime.getHour();
+        if (hour >= TRAVEL_START_HOUR && hour < TRAVEL_END_HOUR && canTravel()) {
+            int distance = movement.travelHour();
+            if (wagonTrain != null) {
+                wagonTrain.travel(distance);
+            }
+            weather.setClimate(gameMap.getClimate());
+            if (distance > 0 && gameMap.checkLandmark(distance)) {
+                landmarkReached = gameMap.getLastLandmarkReached();
+                if (landmarkReached != null) {
+                    log.accept("You have reached " + landmarkReached.getName());
+                }
+            }
+        }
+        rollPerils();
+
+        gameTime.advanceTime(1);
+        hoursElapsed++;
+        if (gameTime.getHour() == 0) {
+            endDay();
+        }
+        checkGameConditions();
+    }
+
+    private void rollPerils() {
+        PerilOutcome outcome = HOURLY_PERILS.roll(context);
+        if (outcome == PerilOutcome.NOTHING) {
+            return;
+        }
+        String struck = wagonTrain != null ? wagonTrain.strike(outcome) : null;
+        if (struck != null) {
+            log.accept(struck);
+            return;
+        }
+        outcome.apply(player, log);
+        log.accept("Health is now " + player.getHealth() + "%");
+    }
+
+    private void endDay() {
+        daysTraveled++;
+        if (wagonTrain != null) {
+            int died = wagonTrain.workOxen();
+            if (died > 0) {
+                log.accept(died + " of your oxen died from exhaustion.");
+            }
+            wagonTrain.feedOxen();
+            if (!wagonTrain.endDay(inventory)) {
+                log.accept("There was not enough food for the wagon train today.");
+            }
+        } else {
+            inventory.consumeDailyRations(PARTY_SIZE);
+        }
+        weather.updateWeather(gameTime);
+    }
+
+    private void checkGameConditions() {
+        if (wagonTrain != null && wagonTrain.getMembersAlive() == 0) {
+            finished = true;
+            log.accept("Game Over: Everyone in your wagon train has died.");
+        } else if (player.getHealth() <= 0) {
+            finished = true;
+            log.accept("Game Over: You have died from " + player.getCauseOfDeath());
+        } else if (gameMap.getCurrentDistanceTraveled() >= gameMap.getTotalDistance()) {
+            finished = true;
+            log.accept("Congratulations! You've reached " + gameMap.getCurrentLandmark() + "!");
+        } else if (gameTime.isWinter()) {
+            finished = true;
+            log.accept("Game Over: Winter has arrived before reaching your destination.");
+        }
+    }
+
+    // A wagon train cannot move once all of its oxen have died
+    private boolean canTravel() {
+        return wagonTrain == null || wagonTrain.getOxenCount() == 0 || wagonTrain.getOxenAlive() > 0;
+    }
+
+    /**
+     * Gets the landmark travel stopped at, so the player can decide what to do there.
+     *
+     * @return The landmark, or null if travel has not stopped at one
+     */
+    public Landmark getLandmarkReached() {
+        return landmarkReached;
+    }
+
+    /**
+     * Carries on traveling after stopping at a landmark.
+     */
+    public void leaveLandmark() {
+        landmarkReached = null;
+    }
+
+    public boolean isStopped() {
+        return finished || landmarkReached != null;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public long getHoursElapsed() {
+        return hoursElapsed;
+    }
+
+    public int getDaysTraveled() {
+        return daysTraveled;
+    }
+}
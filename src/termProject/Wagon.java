@@ -1,5 +1,7 @@
 package termProject;
 
+import java.nio.ByteBuffer;
+
 /**
  * Wagon Class of the Perils Along the Platte Game
  * Represents the player's wagon with attributes such as condition, capacity, and type.
@@ -13,7 +15,7 @@ package termProject;
 public class Wagon {
     private int condition;
     private int capacity;
-    private static boolean isBroken;
+    private boolean isBroken;
     private String wagonType;
 
     /**
@@ -86,7 +88,7 @@ public class Wagon {
      * 
      * @return true if the wagon is broken, false otherwise
      */
-    public static boolean isBroken() {
+    public boolean isBroken() {
         return isBroken;
     }
 
@@ -149,4 +151,39 @@ public class Wagon {
                     "of about 1,600 pounds of supplies.";
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes the wagon's fields for a saved game.
+     *
+     * @param buffer The buffer to write to
+     */
+    void writeState(ByteBuffer buffer) {
+        buffer.putInt(condition);
+        buffer.putInt(capacity);
+        GameStateCodec.putBoolean(isBroken, buffer);
+        GameStateCodec.putString(wagonType, buffer);
+    }
+
+    /**
+     * Reads the wagon's fields from a saved game.
+     *
+     * @param buffer The buffer to read from
+     */
+    void readState(ByteBuffer buffer) {
+        condition = buffer.getInt();
+        capacity = buffer.getInt();
+        isBroken = GameStateCodec.getBoolean(buffer);
+        wagonType = GameStateCodec.getString(buffer);
+    }
+
+    /**
+     * Sets the wagon's condition as it was recorded in a saved game.
+     *
+     * @param condition The wagon condition value (0-100)
+     * @param broken Whether the wagon is broken
+     */
+    void restoreCondition(int condition, boolean broken) {
+        this.condition = condition;
+        this.isBroken = broken;
+    }
+}
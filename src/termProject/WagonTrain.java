@@ -0,0 +1,332 @@
+package termProject;
+
+import java.util.Arrays;
+
+/**
+ * WagonTrain Class of the Perils Along the Platte Game
+ * Keeps track of a large party and its oxen for wagon train journeys.
+ * Rather than one Player or Oxen object each, every member and ox is a position in a set of
+ * plain arrays: the health, hunger, fatigue and sickness of member i are all found at index i.
+ * The daily updates walk straight through these arrays, which stays fast with dozens of
+ * members and oxen. Perils that strike people or oxen fall on the train instead of the
+ * single party, while the wagon, money and supplies stay shared.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : wagonTrain.java
+ */
+public class WagonTrain {
+    public static final int MAX_HEALTH = 100;
+
+    private static final int ILLNESS_PERCENT = 25;      // as in Perils.illness
+    private static final int ILLNESS_DAMAGE = 10;
+    private static final int SICKNESS_DAMAGE = 2;       // each day a member stays sick
+    private static final int RECOVERY_PERCENT = 20;     // chance each day that a sick member recovers
+    private static final int DAILY_HUNGER = 10;
+    private static final int STARVING_HUNGER = 100;
+    private static final int STARVATION_DAMAGE = 5;
+    private static final int REST_HEALING = 10;
+    private static final double REST_RECOVERY = 20;
+    private static final double FATIGUE_PER_MILE = 0.1; // as in Movement.travelTrail
+    private static final int OX_WORK_LOW = 5;           // as in Oxen.work
+    private static final int OX_WORK_RANGE = 10;
+    private static final int OX_GRAZING_LOW = 4;        // a little less than a day's work on average
+    private static final int OX_GRAZING_RANGE = 10;
+
+    private final GameRandom random;
+
+    // Party members, one index per person
+    private final int memberCount;
+    private final int[] health;
+    private final int[] hunger;
+    private final double[] fatigue;
+    private final boolean[] sick;
+    private int membersAlive;
+
+    // Oxen, one index per animal; a dead ox has no health
+    private final int oxenCount;
+    private final int[] oxenHealth;
+    private int oxenAlive;
+
+    /**
+     * Constructor for a wagon train with every member and ox in full health.
+     *
+     * @param memberCount The number of people in the train
+     * @param oxenCount The number of oxen pulling the wagons
+     * @param random The random number generator for the game
+     */
+    public WagonTrain(int memberCount, int oxenCount, GameRandom random) {
+        this.random = random;
+        this.memberCount = memberCount;
+        this.oxenCount = oxenCount;
+        health = new int[memberCount];
+        hunger = new int[memberCount];
+        fatigue = new double[memberCount];
+        sick = new boolean[memberCount];
+        oxenHealth = new int[oxenCount];
+
+        Arrays.fill(health, MAX_HEALTH);
+        Arrays.fill(oxenHealth, MAX_HEALTH);
+        membersAlive = memberCount;
+        oxenAlive = oxenCount;
+    }
+
+    /**
+     * Rolls for illness across the whole train, as Perils.illness does for a single party.
+     * Each living member and each living ox has the same chance of falling ill.
+     *
+     * @return The number of members and oxen that fell ill
+     */
+    public int illness() {
+        int fallenIll = 0;
+        for (int i = 0; i < memberCount; i++) {
+            if (health[i] > 0 && random.nextInt(100) < ILLNESS_PERCENT && random.nextBoolean()) {
+                sick[i] = true;
+                damageMember(i, ILLNESS_DAMAGE);
+                fallenIll++;
+            }
+        }
+        for (int i = 0; i < oxenCount; i++) {
+            if (oxenHealth[i] > 0 && random.nextInt(100) < ILLNESS_PERCENT && random.nextBoolean()) {
+                damageOx(i, ILLNESS_DAMAGE);
+                fallenIll++;
+            }
+        }
+        return fallenIll;
+    }
+
+    /**
+     * Lets a peril strike the train in place of the single party. Illness is rolled across the
+     * whole train, an injury falls on one living member or ox, and heat wears on every ox.
+     * Perils that strike the wagon, money or supplies are left to the caller.
+     *
+     * @param outcome The peril outcome
+     * @return A message saying what happened, or null if the outcome does not strike the train
+     */
+    public String strike(PerilOutcome outcome) {
+        if (outcome.getPeril().equals("illness")) {
+            int fallenIll = illness();
+            return fallenIll > 0
+                    ? "Illness has struck the wagon train! " + fallenIll + " members and oxen have fallen ill."
+                    : "Illness passed through the wagon train, but nobody fell ill.";
+        }
+        switch (outcome) {
+            case PLAYER_INJURED:
+                injureMember(5);
+                return "An accident occurred! A member of the train was injured.";
+            case PREGNANT:
+                injureMember(10);
+                return "A member of the train is pregnant and will need rest.";
+            case OX_INJURED:
+                injureOx(10);
+                return "An accident occurred! One of the train's oxen was injured.";
+            case HEAT:
+                for (int i = 0; i < oxenCount; i++) {
+                    if (oxenHealth[i] > 0) {
+                        damageOx(i, 15);
+                    }
+                }
+                return "Extreme heat has made the train's oxen lose health!";
+            default:
+                return null;
+        }
+    }
+
+    // Damages one living member picked at random
+    private void injureMember(int damage) {
+        if (membersAlive > 0) {
+            damageMember(pickLiving(health, membersAlive), damage);
+        }
+    }
+
+    // Damages one living ox picked at random
+    private void injureOx(int damage) {
+        if (oxenAlive > 0) {
+            damageOx(pickLiving(oxenHealth, oxenAlive), damage);
+        }
+    }
+
+    private int pickLiving(int[] healths, int alive) {
+        int skip = random.nextInt(alive);
+        for (int i = 0; ; i++) {
+            if (healths[i] > 0 && skip-- == 0) {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * Works every living ox for a day of travel, as Oxen.work does for one animal.
+     *
+     * @return The number of oxen that died from exhaustion
+     */
+    public int workOxen() {
+        int died = 0;
+        for (int i = 0; i < oxenCount; i++) {
+            if (oxenHealth[i] > 0 && damageOx(i, random.nextInt(OX_WORK_RANGE) + OX_WORK_LOW)) {
+                died++;
+            }
+        }
+        return died;
+    }
+
+    /**
+     * Lets every living ox graze for a day. Grazing gives back a little less than a day's work
+     * takes, so oxen that travel every day slowly wear out, while a day of rest restores them.
+     */
+    public void feedOxen() {
+        for (int i = 0; i < oxenCount; i++) {
+            if (oxenHealth[i] > 0) {
+                oxenHealth[i] = Math.min(oxenHealth[i] + random.nextInt(OX_GRAZING_RANGE) + OX_GRAZING_LOW, MAX_HEALTH);
+            }
+        }
+    }
+
+    /**
+     * Tires every living member after a stretch of travel.
+     *
+     * @param miles The miles traveled
+     */
+    public void travel(int miles) {
+        double tiredness = miles * FATIGUE_PER_MILE;
+        for (int i = 0; i < memberCount; i++) {
+            if (health[i] > 0) {
+                fatigue[i] = Math.min(fatigue[i] + tiredness, 100);
+            }
+        }
+    }
+
+    /**
+     * Rests the train for a day, healing members and easing their fatigue.
+     */
+    public void rest() {
+        for (int i = 0; i < memberCount; i++) {
+            if (health[i] > 0) {
+                health[i] = Math.min(health[i] + REST_HEALING, MAX_HEALTH);
+                fatigue[i] = Math.max(fatigue[i] - REST_RECOVERY, 0);
+            }
+        }
+    }
+
+    /**
+     * Ends a day on the trail: the train eats from the inventory, and the sick either recover
+     * or grow weaker. If food runs short, the members who get a full ration eat and the rest
+     * go hungry, and members who are starving lose health.
+     *
+     * @param inventory The inventory the train's food is taken from
+     * @return true if every living member had enough to eat
+     */
+    public boolean endDay(Inventory inventory) {
+        int alive = membersAlive;
+        int rations = inventory.consumeDailyRations(alive) / Inventory.DAILY_RATION;
+
+        for (int i = 0; i < memberCount; i++) {
+            if (health[i] <= 0) {
+                continue;
+            }
+            int hungerChange = rations > 0 ? -DAILY_HUNGER : DAILY_HUNGER;
+            rations--;
+            hunger[i] = Math.max(hunger[i] + hungerChange, 0);
+            int damage = hunger[i] >= STARVING_HUNGER ? STARVATION_DAMAGE : 0;
+            if (sick[i]) {
+                if (random.nextInt(100) < RECOVERY_PERCENT) {
+                    sick[i] = false;
+                } else {
+                    damage += SICKNESS_DAMAGE;
+                }
+            }
+            if (damage > 0) {
+                damageMember(i, damage);
+            }
+        }
+        return rations >= 0;
+    }
+
+    private void damageMember(int member, int damage) {
+        health[member] = Math.max(health[member] - damage, 0);
+        if (health[member] == 0) {
+            sick[member] = false;
+            membersAlive--;
+        }
+    }
+
+    // Returns true if the ox died
+    private boolean damageOx(int ox, int damage) {
+        oxenHealth[ox] = Math.max(oxenHealth[ox] - damage, 0);
+        if (oxenHealth[ox] == 0) {
+            oxenAlive--;
+            return true;
+        }
+        return false;
+    }
+
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    public int getMembersAlive() {
+        return membersAlive;
+    }
+
+    public int getOxenCount() {
+        return oxenCount;
+    }
+
+    public int getOxenAlive() {
+        return oxenAlive;
+    }
+
+    public int getHealth(int member) {
+        return health[member];
+    }
+
+    public int getHunger(int member) {
+        return hunger[member];
+    }
+
+    public double getFatigue(int member) {
+        return fatigue[member];
+    }
+
+    public boolean isSick(int member) {
+        return sick[member];
+    }
+
+    public int getOxHealth(int ox) {
+        return oxenHealth[ox];
+    }
+
+    /**
+     * Gets the average health of the living members.
+     *
+     * @return The average health, or 0 if everyone has died
+     */
+    public double getAverageHealth() {
+        if (membersAlive == 0) {
+            return 0;
+        }
+        int total = 0;
+        for (int i = 0; i < memberCount; i++) {
+            total += health[i];
+        }
+        return (double) total / membersAlive;
+    }
+
+    /**
+     * Gets the average health of the oxen, counting dead oxen as having none,
+     * as Player.getOxenHealth does.
+     *
+     * @return The average oxen health, or 0 if there are no oxen
+     */
+    public int getAverageOxenHealth() {
+        if (oxenCount == 0) {
+            return 0;
+        }
+        int total = 0;
+        for (int i = 0; i < oxenCount; i++) {
+            total += oxenHealth[i];
+        }
+        return total / oxenCount;
+    }
+}
@@ -1,5 +1,7 @@
 package termProject;
 
+import java.nio.ByteBuffer;
+
 /**
  * Weapon Class of the Perils Along the Platte Game
  * Represents weapons that can be used for hunting and protection.
@@ -190,4 +192,20 @@ public class Weapon extends Item {
     public static Weapon createKnife(int quantity) {
         return new Weapon("Hunting Knife", 3, 9);
     }
-}
\ No newline at end of file
+
+    @Override
+    void writeState(ByteBuffer buffer) {
+        super.writeState(buffer);
+        buffer.putInt(power);
+        buffer.putInt(accuracy);
+        buffer.putInt(ammo);
+    }
+
+    @Override
+    void readState(ByteBuffer buffer) {
+        super.readState(buffer);
+        power = buffer.getInt();
+        accuracy = buffer.getInt();
+        ammo = buffer.getInt();
+    }
+}
@@ -4,6 +4,11 @@ package termProject;
  * Weather Class of the Perils Along the Platte Game
  * Manages weather conditions and their impact on gameplay.
  * Handles temperature, precipitation, wind, and seasonal changes.
+ * Each day's weather follows from the day before through the tables of the region's Climate.
+ * A month of weather is worked out at a time as a WeatherSeason, so each day and each forecast
+ * is read from there rather than worked out again. The current month's season is kept here,
+ * along with the next month's once a forecast has looked into it, and a new one is worked out
+ * when the month or the region changes.
  *
  * @author : Painter Drury, and Domenic Pilla
  * @version : 1.0
@@ -17,60 +22,140 @@ public class Weather {
     boolean precipitation;
     double precipitationAmount;
     int weatherStrength;
+    private final GameRandom random;
+    private final long seed;
+    private Climate climate = Climate.PLAINS;
+    private WeatherSeason season;
+    private WeatherSeason nextSeason;
+    private int condition = Climate.CLEAR;
+    private int month;
+    private int day;
 
     /**
      * Constructor for creating a weather object with a specified month.
      * Initializes weather conditions based on the month.
      */
     public Weather() {
-        weatherStrength = setWeatherStrength();
+        this(new GameRandom());
     }
 
     /**
-     * Updates weather conditions based on the day count and month.
-     * Changes conditions when moving to a new month.
+     * Constructor for creating a weather object that draws from the given generator.
      * 
-     * @param days The number of days elapsed
-     * @param monthNum The current month number
+     * @param random The random number generator for the game
      */
-    public void updateWeather(int days, int monthNum) {
-        switch(monthNum){
-            case 1: findWeatherPossibilityProbability(); setTemperature(temperature+10); setHumidity(); break;
-            case 2: findWeatherPossibilityProbability(); setTemperature(temperature+15); setHumidity(); break;
-            case 3: findWeatherPossibilityProbability(); setTemperature(temperature+20); setHumidity(); break;
-            case 4: findWeatherPossibilityProbability(); setTemperature(temperature+25); setHumidity(); break;
-            case 5: findWeatherPossibilityProbability(); setTemperature(temperature+35); setHumidity(); break;
+    public Weather(GameRandom random) {
+        this.random = random;
+        seed = random.getSeed();
+        updateWeather(1, 4); // the first of April until the game sets the date
+    }
+
+    /**
+     * Sets the weather to that of a day.
+     * The month's weather for the journey and region is worked out when the month or region
+     * changes, and each day after that is read from it.
+     * 
+     * @param day The day of the month, from 1
+     * @param monthNum The current calendar month, 1 for January to 12 for December
+     */
+    public void updateWeather(int day, int monthNum) {
+        if (season == null || !season.isFor(climate, monthNum)) {
+            season = seasonFor(monthNum);
         }
+        this.day = day;
+        month = monthNum;
+        condition = season.getCondition(day);
+        temperature = season.getTemperature(day);
+        humidity = season.getHumidity(day);
+        windSpeed = season.getWindSpeed(day);
+        precipitation = condition != Climate.CLEAR;
+        precipitationAmount = season.getPrecipitation(day);
+        weatherStrength = season.getStrength(day);
+        currentWeather = Climate.CONDITIONS[condition];
     }
 
     /**
-     * Updates weather conditions based on the current month.
-     * Simpler version that doesn't track day count.
+     * Sets the weather to that of the day shown by the game clock.
+     * 
+     * @param gameTime The game clock to read the day and month from
      */
-    public void updateWeather(){
-        switch(Time.monthNum){
-            case 1: findWeatherPossibilityProbability(); setTemperature(temperature+10); setHumidity(); break;
-            case 2: findWeatherPossibilityProbability(); setTemperature(temperature+15); setHumidity(); break;
-            case 3: findWeatherPossibilityProbability(); setTemperature(temperature+20); setHumidity(); break;
-            case 4: findWeatherPossibilityProbability(); setTemperature(temperature+25); setHumidity(); break;
-            case 5: findWeatherPossibilityProbability(); setTemperature(temperature+35); setHumidity(); break;
+    public void updateWeather(Time gameTime){
+        updateWeather(gameTime.getDay(), gameTime.getMonth());
+    }
+
+    /**
+     * Gets the forecast for a day ahead in the current region.
+     * 
+     * @param daysAhead The number of days ahead, 1 for tomorrow
+     * @return The day's condition and temperature, such as "Rainy, 54 degrees Fahrenheit"
+     */
+    public String getForecast(int daysAhead) {
+        WeatherSeason forecast = season;
+        int forecastDay = day + daysAhead;
+        while (forecastDay > forecast.getDays()) {
+            forecastDay -= forecast.getDays();
+            forecast = seasonFor(forecast.getMonth() % 12 + 1);
+        }
+        return Climate.CONDITIONS[forecast.getCondition(forecastDay)] + ", "
+                + Math.round(forecast.getTemperature(forecastDay)) + " degrees Fahrenheit";
+    }
+
+    // Reuses the current or next month's season when it is the one asked for, and remembers
+    // a month worked out for a forecast so the journey can step into it
+    private WeatherSeason seasonFor(int monthNum) {
+        if (season != null && season.isFor(climate, monthNum)) {
+            return season;
+        }
+        if (nextSeason == null || !nextSeason.isFor(climate, monthNum)) {
+            nextSeason = WeatherSeason.generate(seed, climate, monthNum);
         }
+        return nextSeason;
     }
 
     /**
-     * Displays current weather conditions and returns the weather strength.
-     * Outputs temperature, humidity, wind speed, and precipitation if present.
+     * Sets the climate the weather follows, such as when the trail enters a new region.
+     * On entering a new region, today's weather becomes that region's weather for the day.
+     * Setting the climate the weather already follows changes nothing, so it can be set every hour.
      * 
-     * @return The current weather strength value
+     * @param climate The region's climate
+     */
+    public void setClimate(Climate climate) {
+        if (climate != this.climate) {
+            this.climate = climate;
+            updateWeather(day, month);
+        }
+    }
+
+    public Climate getClimate() {
+        return climate;
+    }
+
+    /**
+     * Gets the weather strength.
+     * 
+     * @return The current weather strength value, from 1 for calm up to 10 for severe
      */
     public int getWeather() {
-        System.out.println("The temperature is: " + String.format("%.2f", temperature) + " degrees Fahrenheit");
-        System.out.println("The humidity is: " + String.format("%.2f", humidity )+ "%");
-        System.out.println("The wind speed is: " +String.format("%.2f", windSpeed) + " mph");
-        if(precipitation) System.out.println("The precipitation is: " +String.format("%.2f", precipitationAmount ) + " inches");
         return weatherStrength;
     }
 
+    /**
+     * Describes the current weather conditions.
+     * Gives temperature, humidity, wind speed, and precipitation if present.
+     * 
+     * @return The description, one reading per line
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder()
+                .append("The temperature is: ").append(String.format("%.2f", temperature)).append(" degrees Fahrenheit\n")
+                .append("The humidity is: ").append(String.format("%.2f", humidity)).append("%\n")
+                .append("The wind speed is: ").append(String.format("%.2f", windSpeed)).append(" mph");
+        if (precipitation) {
+            report.append("\nThe precipitation is: ").append(String.format("%.2f", precipitationAmount)).append(" inches");
+        }
+        return report.toString();
+    }
+
     /**
      * Sets the temperature value.
      * 
@@ -95,7 +180,7 @@ public class Weather {
      * @return The newly set humidity percentage
      */
     public double setHumidity() {
-        return humidity = Math.random()*50 + 1;
+        return humidity = random.nextDouble()*50 + 1;
     }
 
     /**
@@ -111,14 +196,14 @@ public class Weather {
      * Sets a random normal wind speed between 1 and 20 mph.
      */
     public void setWindSpeed() {
-        windSpeed = Math.random() * 20 + 1; //mph
+        windSpeed = random.nextDouble() * 20 + 1; //mph
     }
 
     /**
      * Sets a random heavy wind speed between 10 and 30 mph.
      */
     public void setHeavyWindSpeed(){
-        windSpeed = Math.random() * 20 + 10;
+        windSpeed = random.nextDouble() * 20 + 10;
     }
 
     /**
@@ -136,7 +221,7 @@ public class Weather {
      * @return The weather duration value
      */
     public double getWeatherLength(){
-        return Math.random() * 100 + 1;
+        return random.nextDouble() * 100 + 1;
     }
 
     /**
@@ -146,179 +231,26 @@ public class Weather {
      * @return The newly set weather strength
      */
     public int setWeatherStrength(){
-        return weatherStrength = (int) Math.random() * 10 + 1;
+        return weatherStrength = (int) (random.nextDouble() * 10) + 1;
     }
 
     /**
-     * Calculates the chance of precipitation occurring.
+     * Gets the chance of rain or snow tomorrow, from today's weather and the climate.
      * 
-     * @return A value between 1 and 10 representing precipitation chance
+     * @return The chance of precipitation, from 0 to 1
      */
     public double getPrecipitationChance(){
-        return Math.random() * 10 + 1;
+        return climate.getPrecipitationChance(month, condition);
     }
 
     /**
-     * Calculates the amount of precipitation based on chance.
-     * Higher chance values result in more precipitation.
+     * Gets the amount of rain or snow that fell today.
+     * Harsher days bring more, and snow piles up deeper than rain.
      * 
-     * @return The amount of precipitation in inches
+     * @return The amount of precipitation in inches, or 0 on a clear day
      */
     public double getPrecipitationAmount(){
-        switch((int)getPrecipitationChance()){
-            case 0: return Math.random() + 1;
-            case 1: return Math.random() + 3;
-            case 2:return Math.random() + 5;
-            case 3:return Math.random() * 3 + 1;
-            case 4:return Math.random() * 3 + 3;
-            case 5:return Math.random() * 3 + 5;
-            case 6:return Math.random() * 3 + 7;
-            case 7:return Math.random() * 5 + 1;
-            case 8:return Math.random() * 5 + 3;
-            case 9:return Math.random() * 5 + 5;
-            case 10:return Math.random() * 5 + 7;
-            default: return 0;
-        }
-    }
-
-    /**
-     * Determines the weather conditions based on random chance and weather strength.
-     * Sets appropriate temperature, wind, and precipitation values.
-     */
-    public void findWeatherPossibilityProbability(){
-        int weatherPossibility = (int) (Math.random()*10+1);
-        switch(weatherPossibility){
-            case 1:
-                if(weatherStrength > 10){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 2:
-                if(weatherStrength > 9){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 3:
-                if(weatherStrength > 8){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 4:
-                if(weatherStrength > 7){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 5:
-                if(weatherStrength > 6){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 6:
-                if(weatherStrength > 5){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 7:
-                if(weatherStrength > 4){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 8:
-                if(weatherStrength > 3){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 9:
-                if(weatherStrength > 2){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-            case 10:
-                if(weatherStrength > 1){
-                    setHeavyWindSpeed();
-                    getPrecipitationAmount();
-                    precipitation = true;
-                    setTemperature(30);
-                }
-                else{
-                    setWindSpeed();
-                    setTemperature(50);
-                    precipitation = false;
-                }
-                break;
-        }
+        return precipitationAmount;
     }
 
     private String currentWeather = "Clear";
@@ -327,18 +259,11 @@ public class Weather {
         return currentWeather;
     }
 
-    public void updateDailyWeather() {
-        int chance = (int)(Math.random() * 100);
-        if (chance < 30) currentWeather = "Rainy";
-        else if (chance < 45) currentWeather = "Snowy";
-        else currentWeather = "Clear";
-    }
-
     public boolean isRaining() {
-        return currentWeather.equals("Rainy");
+        return condition == Climate.RAINY;
     }
 
     public boolean isSnowing() {
-        return currentWeather.equals("Snowy");
+        return condition == Climate.SNOWY;
     }
 }
@@ -0,0 +1,145 @@
+package termProject;
+
+/**
+ * WeatherSeason Class of the Perils Along the Platte Game
+ * A whole month of weather for one region, worked out in one go.
+ * The condition, temperature, humidity, wind and precipitation of every day are kept in plain
+ * arrays, so reading a day's weather, or a forecast of the days ahead, is only an array lookup.
+ * A month's weather depends only on the journey's seed, the region and the month, so a journey
+ * that comes back to a month reads the same weather again. Each Weather keeps the season it is
+ * in, so nothing is shared between journeys.
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : weatherSeason.java
+ */
+public final class WeatherSeason {
+    private static final int[] DAYS_IN_MONTH = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    // How each condition shapes the day, indexed by Climate.CLEAR, RAINY and SNOWY.
+    // A day's severity runs from the low value up to low + range.
+    private static final double[] TEMPERATURE_CHANGE = {0, -8, -25}; // from the month's typical high
+    private static final double TEMPERATURE_SPREAD = 10;             // either side, colder when severe
+    private static final double[] HUMIDITY_LOW = {15, 60, 50};
+    private static final double[] HUMIDITY_RANGE = {35, 35, 30};
+    private static final double[] WIND_LOW = {1, 10, 10};
+    private static final double[] WIND_RANGE = {20, 20, 20};
+    private static final double[] PRECIPITATION_LOW = {0, 0.1, 0.5};
+    private static final double[] PRECIPITATION_RANGE = {0, 1.9, 7.5};
+    private static final int[] STRENGTH_LOW = {1, 3, 5};
+    private static final int[] STRENGTH_RANGE = {3, 6, 6};
+
+    private final Climate climate;
+    private final int month;
+    private final int days;
+
+    // Day d of the month is found at index d - 1
+    private final byte[] condition;
+    private final float[] temperature;
+    private final float[] humidity;
+    private final float[] windSpeed;
+    private final float[] precipitation;
+    private final byte[] strength;
+
+    private WeatherSeason(long seed, Climate climate, int month) {
+        this.climate = climate;
+        this.month = month;
+        days = DAYS_IN_MONTH[Math.floorMod(month - 1, DAYS_IN_MONTH.length)];
+        condition = new byte[days];
+        temperature = new float[days];
+        humidity = new float[days];
+        windSpeed = new float[days];
+        precipitation = new float[days];
+        strength = new byte[days];
+
+        GameRandom random = new GameRandom(GameRandom.journeySeed(seed, climate.ordinal() * 16L + month));
+        int today = climate.firstCondition(month, random.nextDouble());
+        double severity = random.nextDouble();
+        for (int day = 0; day < days; day++) {
+            if (day > 0) {
+                double uniform = random.nextDouble();
+                int tomorrow = climate.nextCondition(month, today, uniform);
+                severity = climate.severity(month, today, tomorrow, uniform);
+                today = tomorrow;
+            }
+            condition[day] = (byte) today;
+            temperature[day] = (float) (climate.getTypicalHigh(month) + TEMPERATURE_CHANGE[today]
+                    + TEMPERATURE_SPREAD * (1 - 2 * severity));
+            humidity[day] = (float) (HUMIDITY_LOW[today] + severity * HUMIDITY_RANGE[today]);
+            windSpeed[day] = (float) (WIND_LOW[today] + severity * WIND_RANGE[today]);
+            precipitation[day] = (float) (PRECIPITATION_LOW[today] + severity * PRECIPITATION_RANGE[today]);
+            strength[day] = (byte) (STRENGTH_LOW[today] + (int) (severity * STRENGTH_RANGE[today]));
+        }
+    }
+
+    /**
+     * Works out the weather of a month for a journey.
+     *
+     * @param seed The journey's seed
+     * @param climate The region's climate
+     * @param month The calendar month, 1 for January to 12 for December
+     * @return The month's weather
+     */
+    public static WeatherSeason generate(long seed, Climate climate, int month) {
+        return new WeatherSeason(seed, climate, month);
+    }
+
+    /**
+     * Checks whether this is the weather of a month in a region.
+     *
+     * @param climate The region's climate
+     * @param month The calendar month
+     * @return true if this season is for that region and month
+     */
+    public boolean isFor(Climate climate, int month) {
+        return this.climate == climate && this.month == month;
+    }
+
+    public Climate getClimate() {
+        return climate;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Gets a day's condition.
+     *
+     * @param day The day of the month, from 1
+     * @return Climate.CLEAR, RAINY or SNOWY
+     */
+    public int getCondition(int day) {
+        return condition[index(day)];
+    }
+
+    public double getTemperature(int day) {
+        return temperature[index(day)];
+    }
+
+    public double getHumidity(int day) {
+        return humidity[index(day)];
+    }
+
+    public double getWindSpeed(int day) {
+        return windSpeed[index(day)];
+    }
+
+    public double getPrecipitation(int day) {
+        return precipitation[index(day)];
+    }
+
+    public int getStrength(int day) {
+        return strength[index(day)];
+    }
+
+    // Days past the end of the month, as on a clock that was set by hand, wrap back to the start
+    private int index(int day) {
+        return Math.floorMod(day - 1, days);
+    }
+}
@@ -0,0 +1,57 @@
+package termProject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * HuntingTest Class of the Perils Along the Platte Game
+ * Checks that hunting with the outfitted rifle and ammunition brings in food, both on its own
+ * and during a simulated journey. Run with: java termProject.HuntingTest
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : huntingTest.java
+ */
+public class HuntingTest {
+
+    public static void main(String[] args) {
+        huntWithOutfittedRifleYieldsFood();
+        simulatedJourneyHuntsForFood();
+        System.out.println("HuntingTest passed");
+    }
+
+    private static void huntWithOutfittedRifleYieldsFood() {
+        GameContext context = new GameContext(new GameRandom(1));
+        Inventory inventory = context.getInventory();
+        int foodBefore = inventory.getFoodAmount();
+        int ammoBefore = inventory.getItemInUse(Hunting.AMMUNITION).getQuantity();
+
+        for (int i = 0; i < 10; i++) {
+            context.getHuntingSystem().hunt();
+        }
+
+        check(inventory.getFoodAmount() > foodBefore, "ten hunts with a rifle brought in no food");
+        check(inventory.getItemInUse(Hunting.AMMUNITION).getQuantity() == ammoBefore - 10,
+                "each hunt should use one round of ammunition");
+    }
+
+    private static void simulatedJourneyHuntsForFood() {
+        List<String> log = new ArrayList<>();
+        TrailSimulation simulation = new TrailSimulation("Oregon", 1, new SteadyPacePolicy(), 7L);
+        simulation.setLog(log::add);
+        simulation.run();
+
+        boolean hunted = false;
+        for (String message : log) {
+            hunted |= message.startsWith("Hunting successful!");
+        }
+        check(hunted, "a simulated journey never brought in food by hunting");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package termProject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WagonTrainTest Class of the Perils Along the Platte Game
+ * Checks that a wagon train eats from every food stack, that its oxen wear out when worked
+ * day after day, and that a simulated journey can travel as a wagon train.
+ * Run with: java termProject.WagonTrainTest
+ *
+ * @author : Painter Drury, and Domenic Pilla
+ * @version : 1.0
+ * @ date : 03/25/2025
+ * @ file : wagonTrainTest.java
+ */
+public class WagonTrainTest {
+
+    public static void main(String[] args) {
+        rationsComeFromEveryFoodStack();
+        overworkedOxenDie();
+        simulatedJourneyTravelsAsWagonTrain();
+        System.out.println("WagonTrainTest passed");
+    }
+
+    private static void rationsComeFromEveryFoodStack() {
+        Inventory inventory = new Inventory();
+        inventory.addItem(new Food("Flour", 1, 3, 10, false), 3);
+        inventory.addItem(new Food("Bacon", 1, 3, 10, false), 3);
+        WagonTrain train = new WagonTrain(3, 0, new GameRandom(1));
+
+        check(train.endDay(inventory), "two stacks of 3 should feed 3 members for a day");
+        check(inventory.getFoodAmount() == 0, "a day's rations for 3 members should eat all 6 units");
+        check(!train.endDay(inventory), "with no food left the train should go hungry");
+    }
+
+    private static void overworkedOxenDie() {
+        WagonTrain train = new WagonTrain(1, 4, new GameRandom(1));
+        for (int day = 0; day < 400 && train.getOxenAlive() == 4; day++) {
+            train.workOxen();
+            train.feedOxen();
+        }
+        check(train.getOxenAlive() < 4, "oxen worked every day for 400 days never wore out");
+    }
+
+    private static void simulatedJourneyTravelsAsWagonTrain() {
+        List<String> log = new ArrayList<>();
+        TrailSimulation simulation = new TrailSimulation("Oregon", 1, new SteadyPacePolicy(), 7L);
+        WagonTrain train = new WagonTrain(8, 12, simulation.getRandom());
+        simulation.setWagonTrain(train);
+        simulation.setLog(log::add);
+        simulation.run();
+
+        check(simulation.isFinished(), "the wagon train journey did not finish");
+        check(train.getAverageOxenHealth() < WagonTrain.MAX_HEALTH, "the train's oxen never did any work");
+        boolean trainStruck = false;
+        for (String message : log) {
+            trainStruck |= message.contains("wagon train") || message.contains("the train's");
+        }
+        check(trainStruck, "no peril or shortage ever reached the wagon train");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}